@@ -0,0 +1,124 @@
+package kr.minigate.ordersystem.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.minigate.ordersystem.Application;
+import kr.minigate.ordersystem.api.request.OrderCreateRequest;
+import kr.minigate.ordersystem.domain.Member;
+import kr.minigate.ordersystem.domain.Product;
+import kr.minigate.ordersystem.domain.repository.MemberRepository;
+import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 실제 Tomcat에 동시 클라이언트로 주문 생성 요청을 보내 플랫폼 스레드 풀과 가상 스레드 모드의 처리량을 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(OrderApiLoadBenchmark.CLIENTS)
+public class OrderApiLoadBenchmark {
+
+    static final int CLIENTS = 64;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    // 플랫폼 스레드 모드의 Tomcat 작업 스레드 수 (가상 스레드 모드에서는 사용하지 않음)
+    @Param({"50"})
+    private int tomcatMaxThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI ordersUri;
+    private final List<String> requestBodies = new ArrayList<>();
+    private final AtomicInteger nextClient = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(Application.class)
+            .profiles("test") // DataInitializer 더미 데이터 생성 생략
+            .run("--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--server.tomcat.threads.max=" + tomcatMaxThreads,
+                "--spring.datasource.url=jdbc:h2:mem:load-benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "--logging.level.kr.minigate.ordersystem=WARN");
+
+        Member member = context.getBean(MemberRepository.class).save(Member.builder()
+            .name("부하테스트")
+            .email("load@example.com")
+            .phone("010-0000-0000")
+            .address("서울시")
+            .build());
+
+        // 클라이언트마다 다른 상품을 주문해 재고 행 잠금 경합이 스레드 모델 비교를 가리지 않게 한다
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        for (int i = 0; i < CLIENTS; i++) {
+            Product product = productRepository.save(Product.builder()
+                .name("상품" + i)
+                .description("부하 테스트 상품")
+                .price(new BigDecimal("12900.00"))
+                .stock(Integer.MAX_VALUE)
+                .build());
+            requestBodies.add(objectMapper.writeValueAsString(new OrderCreateRequest(member.getId(),
+                List.of(new OrderCreateRequest.OrderItemRequest(product.getId(), 1)))));
+        }
+
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        ordersUri = URI.create("http://localhost:" + port + "/api/orders");
+        client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class ClientState {
+
+        private HttpRequest createOrderRequest;
+
+        @Setup(Level.Trial)
+        public void setUp(OrderApiLoadBenchmark benchmark) {
+            String body = benchmark.requestBodies.get(benchmark.nextClient.getAndIncrement() % CLIENTS);
+            createOrderRequest = HttpRequest.newBuilder(benchmark.ordersUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        }
+    }
+
+    @Benchmark
+    public int createOrder(ClientState clientState) throws Exception {
+        return client.send(clientState.createOrderRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,74 @@
+package kr.minigate.ordersystem.api.response;
+
+import kr.minigate.ordersystem.application.dto.OrderQuery;
+import kr.minigate.ordersystem.domain.Member;
+import kr.minigate.ordersystem.domain.Order;
+import kr.minigate.ordersystem.domain.OrderItem;
+import kr.minigate.ordersystem.domain.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderMappingBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private Order order;
+    private OrderQuery orderQuery;
+
+    @Setup
+    public void setUp() {
+        Member member = Member.builder()
+            .name("벤치마크")
+            .email("bench@example.com")
+            .phone("010-0000-0000")
+            .address("서울시")
+            .build();
+        Product product = Product.builder()
+            .name("상품")
+            .description("벤치마크 상품")
+            .price(new BigDecimal("12900.00"))
+            .stock(Integer.MAX_VALUE)
+            .build();
+
+        List<OrderItem> orderItems = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            orderItems.add(OrderItem.builder()
+                .product(product)
+                .quantity(i % 5 + 1)
+                .price(product.getPrice())
+                .build());
+        }
+        order = Order.createOrder(member, orderItems);
+        orderQuery = OrderQuery.from(order);
+    }
+
+    @Benchmark
+    public OrderQuery orderQueryFrom() {
+        return OrderQuery.from(order);
+    }
+
+    @Benchmark
+    public OrderResponse orderResponseFromQuery() {
+        return new OrderResponse(orderQuery);
+    }
+
+    @Benchmark
+    public OrderResponse orderResponseFromEntity() {
+        return new OrderResponse(order);
+    }
+}
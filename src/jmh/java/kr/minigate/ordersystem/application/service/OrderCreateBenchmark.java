@@ -0,0 +1,112 @@
+package kr.minigate.ordersystem.application.service;
+
+import kr.minigate.ordersystem.Application;
+import kr.minigate.ordersystem.application.dto.OrderCreateCommand;
+import kr.minigate.ordersystem.application.dto.OrderQuery;
+import kr.minigate.ordersystem.domain.Member;
+import kr.minigate.ordersystem.domain.Product;
+import kr.minigate.ordersystem.domain.repository.MemberRepository;
+import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 인메모리 H2 위에서 주문 생성 트랜잭션 전체(재고 차감, 주문/아이템 INSERT)를 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderCreateBenchmark {
+
+    private static final int PRODUCT_COUNT = 5;
+
+    // true면 모든 상품을 인메모리 재고 원장으로 처리
+    @Param({"false", "true"})
+    private boolean hotStockLedger;
+
+    private ConfigurableApplicationContext context;
+    private OrderCommandService orderCommandService;
+    private OrderCreateCommand command;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 원장에 넘길 상품 ID는 저장해야 알 수 있으므로, 먼저 데이터만 넣고 닫은 뒤 같은 DB로 측정용 컨텍스트를 띄운다
+        List<Long> productIds = new ArrayList<>();
+        Long memberId;
+        try (ConfigurableApplicationContext seedContext = run(
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--ordersystem.stock.ledger.enabled=false")) {
+            memberId = seedContext.getBean(MemberRepository.class).save(Member.builder()
+                .name("벤치마크")
+                .email("bench@example.com")
+                .phone("010-0000-0000")
+                .address("서울시")
+                .build()).getId();
+
+            ProductRepository productRepository = seedContext.getBean(ProductRepository.class);
+            for (int i = 0; i < PRODUCT_COUNT; i++) {
+                productIds.add(productRepository.save(Product.builder()
+                    .name("상품" + i)
+                    .description("벤치마크 상품")
+                    .price(new BigDecimal("12900.00"))
+                    .stock(Integer.MAX_VALUE)
+                    .build()).getId());
+            }
+        }
+
+        context = run(
+            "--spring.jpa.hibernate.ddl-auto=none",
+            "--ordersystem.stock.ledger.enabled=" + hotStockLedger,
+            "--ordersystem.stock.ledger.hot-product-ids=" + productIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",")));
+
+        command = new OrderCreateCommand(memberId, productIds.stream()
+            .map(productId -> new OrderCreateCommand.OrderItemCommand(productId, 1))
+            .toList());
+        orderCommandService = context.getBean(OrderCommandService.class);
+    }
+
+    private static ConfigurableApplicationContext run(String... args) {
+        List<String> allArgs = new ArrayList<>(List.of(
+            // DB_CLOSE_DELAY=-1이라 컨텍스트를 닫아도 같은 JVM 안에서는 DB가 남는다
+            "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+            "--spring.jpa.show-sql=false",
+            "--spring.jpa.properties.hibernate.show_sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+            "--logging.level.kr.minigate.ordersystem=WARN"));
+        allArgs.addAll(List.of(args));
+        return new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test") // DataInitializer 더미 데이터 생성 생략
+            // application.yml 값을 덮어써야 하므로 기본 프로퍼티가 아닌 실행 인자로 전달
+            .run(allArgs.toArray(String[]::new));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderQuery createOrder() {
+        return orderCommandService.createOrder(command);
+    }
+}
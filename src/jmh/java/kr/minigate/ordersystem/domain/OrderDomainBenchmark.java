@@ -0,0 +1,73 @@
+package kr.minigate.ordersystem.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderDomainBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private Member member;
+    private Product product;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        member = Member.builder()
+            .name("벤치마크")
+            .email("bench@example.com")
+            .phone("010-0000-0000")
+            .address("서울시")
+            .build();
+        product = Product.builder()
+            .name("상품")
+            .description("벤치마크 상품")
+            .price(new BigDecimal("12900.00"))
+            .stock(Integer.MAX_VALUE)
+            .build();
+        order = Order.createOrder(member, newOrderItems());
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalAmount() {
+        return order.calculateTotalAmount();
+    }
+
+    // 아이템을 하나씩 추가하며 총액을 다시 계산하는 비용까지 포함
+    @Benchmark
+    public Order createOrder() {
+        return Order.createOrder(member, newOrderItems());
+    }
+
+    @Benchmark
+    public String generateTransactionId() {
+        return Payment.generateTransactionId();
+    }
+
+    private List<OrderItem> newOrderItems() {
+        List<OrderItem> orderItems = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            orderItems.add(OrderItem.builder()
+                .product(product)
+                .quantity(i % 5 + 1)
+                .price(product.getPrice())
+                .build());
+        }
+        return orderItems;
+    }
+}
@@ -0,0 +1,34 @@
+package kr.minigate.ordersystem.api.controller;
+
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+final class ETags {
+
+    private ETags() {
+    }
+
+    // 응답 내용에서 계산한 ETag. 서버가 여러 대여도 같은 내용이면 같은 값이 된다
+    // 레코드 DTO의 toString()은 모든 필드를 포함한다
+    static String of(Object content) {
+        return "\"" + DigestUtils.md5DigestAsHex(String.valueOf(content).getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // 수정 시각(updatedAt)으로 약한 ETag와 Last-Modified를 정하고, 바뀌지 않았으면 true (응답은 304로 끝난다).
+    // 수정 시각을 모르면 조건 없이 본문을 내려준다
+    static boolean notModified(WebRequest request, Optional<LocalDateTime> lastModified) {
+        if (lastModified.isEmpty()) {
+            return false;
+        }
+        LocalDateTime updatedAt = lastModified.get();
+        String eTag = "W/\"" + Long.toHexString(updatedAt.toEpochSecond(ZoneOffset.UTC)) + "."
+            + Integer.toHexString(updatedAt.getNano()) + "\"";
+        return request.checkNotModified(eTag, updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
@@ -0,0 +1,32 @@
+package kr.minigate.ordersystem.api.controller;
+
+import kr.minigate.ordersystem.domain.exception.BusinessException;
+import kr.minigate.ordersystem.domain.exception.ErrorCode;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ProblemDetail> handleBusinessException(BusinessException e) {
+        HttpStatus status = statusOf(e.getErrorCode());
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(status, e.getMessage());
+        problem.setProperty("code", e.getErrorCode().code());
+        return ResponseEntity.status(status).body(problem);
+    }
+
+    static HttpStatus statusOf(ErrorCode errorCode) {
+        return switch (errorCode) {
+            case NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case REQUEST_IN_PROGRESS, CONFLICT -> HttpStatus.CONFLICT;
+            case INSUFFICIENT_STOCK, DUPLICATE_PAYMENT, DUPLICATE_EMAIL, INVALID_STATE, INVALID_REQUEST ->
+                HttpStatus.BAD_REQUEST;
+            case CHUNK_FAILED -> HttpStatus.INTERNAL_SERVER_ERROR;
+            case SERVICE_UNAVAILABLE -> HttpStatus.SERVICE_UNAVAILABLE;
+        };
+    }
+}
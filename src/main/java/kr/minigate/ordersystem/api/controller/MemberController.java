@@ -3,13 +3,16 @@ package kr.minigate.ordersystem.api.controller;
 import kr.minigate.ordersystem.api.request.MemberCreateRequest;
 import kr.minigate.ordersystem.api.request.MemberUpdateRequest;
 import kr.minigate.ordersystem.api.response.MemberResponse;
+import kr.minigate.ordersystem.application.dto.CursorPage;
 import kr.minigate.ordersystem.application.dto.MemberCreateCommand;
 import kr.minigate.ordersystem.application.dto.MemberUpdateCommand;
 import kr.minigate.ordersystem.application.dto.MemberQuery;
 import kr.minigate.ordersystem.application.service.MemberCommandService;
 import kr.minigate.ordersystem.application.service.MemberQueryService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.Valid;
@@ -36,65 +39,55 @@ public class MemberController {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류");
         }
 
-        try {
-            MemberCreateCommand command = new MemberCreateCommand(
-                request.getName(),
-                request.getEmail(),
-                request.getPhone(),
-                request.getAddress()
-            );
-            MemberQuery memberQuery = memberCommandService.createMember(command);
-            return new MemberResponse(memberQuery);
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
-        }
+        MemberCreateCommand command = new MemberCreateCommand(
+            request.getName(),
+            request.getEmail(),
+            request.getPhone(),
+            request.getAddress()
+        );
+        MemberQuery memberQuery = memberCommandService.createMember(command);
+        return new MemberResponse(memberQuery);
     }
 
     @GetMapping("/{id}")
-    public MemberResponse getMember(@PathVariable Long id) {
+    public MemberResponse getMember(@PathVariable Long id, WebRequest webRequest) {
         // 서버 오류 시뮬레이션
         if (id == 500L) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류");
         }
 
-        try {
-            MemberQuery memberQuery = memberQueryService.getMember(id);
-            return new MemberResponse(memberQuery);
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        // If-None-Match/If-Modified-Since가 현재 버전과 같으면 회원을 조회하지 않고 304로 응답
+        if (ETags.notModified(webRequest, memberQueryService.getMemberLastModified(id))) {
+            return null;
         }
+
+        MemberQuery memberQuery = memberQueryService.getMember(id);
+        return new MemberResponse(memberQuery);
     }
 
     @GetMapping
-    public List<MemberResponse> getAllMembers() {
-        List<MemberQuery> memberQueries = memberQueryService.getAllMembers();
-        return memberQueries.stream()
+    public ResponseEntity<List<MemberResponse>> getAllMembers(@RequestParam(required = false) String cursor,
+                                                              @RequestParam(required = false) Integer size) {
+        CursorPage<MemberQuery> page = memberQueryService.getAllMembers(cursor, size);
+        return PageHeaders.ok(page, page.content().stream()
             .map(MemberResponse::new)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
     }
 
     @PutMapping("/{id}")
     public MemberResponse updateMember(@PathVariable Long id, @Valid @RequestBody MemberUpdateRequest request) {
-        try {
-            MemberUpdateCommand command = new MemberUpdateCommand(
-                request.getName(),
-                request.getPhone(),
-                request.getAddress()
-            );
-            MemberQuery memberQuery = memberCommandService.updateMember(id, command);
-            return new MemberResponse(memberQuery);
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        }
+        MemberUpdateCommand command = new MemberUpdateCommand(
+            request.getName(),
+            request.getPhone(),
+            request.getAddress()
+        );
+        MemberQuery memberQuery = memberCommandService.updateMember(id, command);
+        return new MemberResponse(memberQuery);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteMember(@PathVariable Long id) {
-        try {
-            memberCommandService.deleteMember(id);
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        }
+        memberCommandService.deleteMember(id);
     }
 }
\ No newline at end of file
@@ -1,146 +1,320 @@
 package kr.minigate.ordersystem.api.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import kr.minigate.ordersystem.api.request.OrderCreateRequest;
+import kr.minigate.ordersystem.api.request.OrderStatusTransitionRequest;
+import kr.minigate.ordersystem.api.response.OrderBulkResultResponse;
 import kr.minigate.ordersystem.api.response.OrderResponse;
+import kr.minigate.ordersystem.api.response.OrderStatusTransitionResponse;
+import kr.minigate.ordersystem.application.dto.CursorPage;
 import kr.minigate.ordersystem.application.dto.OrderCreateCommand;
+import kr.minigate.ordersystem.application.dto.OrderCreateResult;
+import kr.minigate.ordersystem.application.dto.OrderExportCondition;
 import kr.minigate.ordersystem.application.dto.OrderQuery;
 import kr.minigate.ordersystem.application.service.OrderCommandService;
 import kr.minigate.ordersystem.application.service.OrderQueryService;
 import kr.minigate.ordersystem.domain.OrderStatus;
+import kr.minigate.ordersystem.domain.exception.ErrorCode;
+import kr.minigate.ordersystem.infrastructure.idempotency.IdempotencyHandler;
+import kr.minigate.ordersystem.infrastructure.order.OrderGroupCommitter;
+import kr.minigate.ordersystem.infrastructure.sse.OrderStatusBroadcaster;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/orders")
 public class OrderController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final OrderCommandService orderCommandService;
+    private final OrderGroupCommitter orderGroupCommitter;
     private final OrderQueryService orderQueryService;
+    private final IdempotencyHandler idempotencyHandler;
+    private final OrderStatusBroadcaster orderStatusBroadcaster;
+    private final ObjectWriter orderWriter;
+    private final ObjectReader orderRequestReader;
+    private final ObjectWriter bulkResultWriter;
+    private final Validator validator;
+    private final int bulkChunkSize;
 
-    public OrderController(OrderCommandService orderCommandService, OrderQueryService orderQueryService) {
+    public OrderController(OrderCommandService orderCommandService, OrderQueryService orderQueryService,
+                           IdempotencyHandler idempotencyHandler, OrderStatusBroadcaster orderStatusBroadcaster,
+                           ObjectMapper objectMapper, Validator validator,
+                           @Value("${ordersystem.order-bulk.chunk-size:500}") int bulkChunkSize,
+                           Optional<OrderGroupCommitter> orderGroupCommitter) {
         this.orderCommandService = orderCommandService;
+        this.orderGroupCommitter = orderGroupCommitter.orElse(null);
         this.orderQueryService = orderQueryService;
+        this.idempotencyHandler = idempotencyHandler;
+        this.orderStatusBroadcaster = orderStatusBroadcaster;
+        this.orderWriter = objectMapper.writerFor(OrderResponse.class);
+        this.orderRequestReader = objectMapper.readerFor(OrderCreateRequest.class);
+        this.bulkResultWriter = objectMapper.writerFor(OrderBulkResultResponse.class);
+        this.validator = validator;
+        this.bulkChunkSize = bulkChunkSize;
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public OrderResponse createOrder(@Valid @RequestBody OrderCreateRequest request) {
+    public OrderResponse createOrder(@Valid @RequestBody OrderCreateRequest request,
+                                     @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
         // 서버 오류 시뮬레이션
         if (request.getMemberId() == 500L) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "주문 생성 서버 오류");
         }
 
-        try {
-            List<OrderCreateCommand.OrderItemCommand> orderItemCommands = request.getOrderItems().stream()
-                .map(item -> new OrderCreateCommand.OrderItemCommand(item.getProductId(), item.getQuantity()))
-                .collect(Collectors.toList());
-
-            OrderCreateCommand command = new OrderCreateCommand(
-                request.getMemberId(),
-                orderItemCommands
-            );
-            OrderQuery orderQuery = orderCommandService.createOrder(command);
-            return new OrderResponse(orderQuery);
-        } catch (IllegalArgumentException e) {
-            // 회원이나 상품을 찾을 수 없는 경우 NOT_FOUND 반환
-            if (e.getMessage().contains("존재하지 않는 회원") || e.getMessage().contains("존재하지 않는 상품")) {
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        OrderCreateCommand command = toCommand(request);
+        // 같은 키로 재시도하면 주문을 다시 만들지 않고 처음 결과를 돌려준다
+        OrderQuery orderQuery = idempotencyHandler.execute("POST /api/orders", idempotencyKey, request,
+            OrderQuery.class, () -> create(command));
+        return new OrderResponse(orderQuery);
+    }
+
+    // 주문 배열 또는 한 줄에 주문 하나(NDJSON)를 읽으며 청크 단위로 생성/커밋하고,
+    // 주문마다 결과 한 줄을 요청 순서대로 바로 내보낸다. 앞 청크는 뒤 청크가 실패해도 커밋된 상태로 남는다
+    @PostMapping(value = "/bulk", consumes = {NDJSON, MediaType.APPLICATION_JSON_VALUE}, produces = NDJSON)
+    public void createOrders(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        OutputStream out = response.getOutputStream();
+
+        int index = 0;
+        List<BulkOrder> chunk = new ArrayList<>(bulkChunkSize);
+        try (MappingIterator<OrderCreateRequest> requests = orderRequestReader.readValues(request.getInputStream())) {
+            while (requests.hasNextValue()) {
+                try {
+                    chunk.add(new BulkOrder(requests.nextValue(), null));
+                } catch (MismatchedInputException e) {
+                    // null이나 타입이 다른 값은 주문 경계가 그대로이므로 그 주문만 실패로 기록하고 다음 주문을 읽는다
+                    chunk.add(new BulkOrder(null, "요청 형식 오류: " + e.getOriginalMessage()));
+                }
+                if (chunk.size() == bulkChunkSize) {
+                    index = createChunk(index, chunk, out);
+                    chunk.clear();
+                }
             }
-            // 재고 부족 등 기타 경우 BAD_REQUEST 반환
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (JsonProcessingException e) {
+            // 형식이 깨진 뒤로는 주문 경계를 알 수 없으므로 그 앞까지만 처리한다
+            index = createChunk(index, chunk, out);
+            writeBulkResult(out, new OrderBulkResultResponse(index, ErrorCode.INVALID_REQUEST,
+                "요청 형식 오류: " + e.getOriginalMessage()));
+            out.flush();
+            return;
         }
+        createChunk(index, chunk, out);
+        out.flush();
     }
 
     @GetMapping
-    public List<OrderResponse> getOrders(@RequestParam(required = false) Long memberId) {
+    public ResponseEntity<List<OrderResponse>> getOrders(@RequestParam(required = false) Long memberId,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer size) {
         // 서버 오류 시뮬레이션
         if (memberId != null && memberId == 500L) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "주문 목록 조회 서버 오류");
         }
 
-        try {
-            List<OrderQuery> orderQueries;
-            if (memberId != null) {
-                orderQueries = orderQueryService.getOrdersByMemberId(memberId);
-            } else {
-                orderQueries = orderQueryService.getAllOrders();
-            }
-            return orderQueries.stream()
-                .map(OrderResponse::new)
-                .collect(Collectors.toList());
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        CursorPage<OrderQuery> page;
+        if (memberId != null) {
+            page = orderQueryService.getOrdersByMemberId(memberId, cursor, size);
+        } else {
+            page = orderQueryService.getAllOrders(cursor, size);
         }
+        return PageHeaders.ok(page, page.content().stream()
+            .map(OrderResponse::new)
+            .collect(Collectors.toList()));
     }
 
     @GetMapping("/member/{memberId}")
-    public List<OrderResponse> getOrdersByMemberId(@PathVariable Long memberId) {
+    public ResponseEntity<List<OrderResponse>> getOrdersByMemberId(@PathVariable Long memberId,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(required = false) Integer size) {
         // 서버 오류 시뮬레이션
         if (memberId == 500L) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "주문 목록 조회 서버 오류");
         }
 
-        try {
-            List<OrderQuery> orderQueries = orderQueryService.getOrdersByMemberId(memberId);
-            return orderQueries.stream()
-                .map(OrderResponse::new)
-                .collect(Collectors.toList());
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
-        }
+        CursorPage<OrderQuery> page = orderQueryService.getOrdersByMemberId(memberId, cursor, size);
+        return PageHeaders.ok(page, page.content().stream()
+            .map(OrderResponse::new)
+            .collect(Collectors.toList()));
+    }
+
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void exportOrders(@RequestParam(required = false) OrderStatus status,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                             HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        OutputStream out = response.getOutputStream();
+
+        // 한 줄에 주문 하나씩 응답 스트림에 바로 기록
+        orderQueryService.exportOrders(new OrderExportCondition(status, from, to), orderQuery -> {
+            try {
+                out.write(orderWriter.writeValueAsBytes(new OrderResponse(orderQuery)));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+    }
+
+    // memberId를 주면 해당 회원 주문의 상태 변경만 받는다
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderStatus(@RequestParam(required = false) Long memberId) {
+        return orderStatusBroadcaster.subscribe(memberId);
     }
 
     @GetMapping("/{id}")
-    public OrderResponse getOrder(@PathVariable Long id) {
+    public OrderResponse getOrder(@PathVariable Long id, WebRequest webRequest) {
         // 서버 오류 시뮬레이션
         if (id == 500L) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "주문 조회 서버 오류");
         }
 
-        try {
-            OrderQuery orderQuery = orderQueryService.getOrder(id);
-            return new OrderResponse(orderQuery);
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        // 수정 시각만 조회해 바뀌지 않았으면 주문 아이템까지 읽지 않고 304로 응답
+        if (ETags.notModified(webRequest, orderQueryService.getOrderLastModified(id))) {
+            return null;
         }
+
+        OrderQuery orderQuery = orderQueryService.getOrder(id);
+        return new OrderResponse(orderQuery);
     }
 
     @PatchMapping("/{id}/status")
     public OrderResponse updateOrderStatus(@PathVariable Long id, @RequestParam OrderStatus status) {
-        try {
-            OrderQuery orderQuery = orderCommandService.updateOrderStatus(id, status);
-            return new OrderResponse(orderQuery);
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        }
+        OrderQuery orderQuery = orderCommandService.updateOrderStatus(id, status);
+        return new OrderResponse(orderQuery);
+    }
+
+    // 여러 주문의 상태를 한 번에 바꾼다 (예: 출고한 주문 전체를 SHIPPED로). 바꿀 수 없는 주문만 failures로 돌려준다
+    @PatchMapping("/status")
+    public OrderStatusTransitionResponse updateOrderStatuses(@Valid @RequestBody OrderStatusTransitionRequest request) {
+        return new OrderStatusTransitionResponse(
+            orderCommandService.updateOrderStatuses(request.getOrderIds(), request.getStatus()));
     }
 
     @PatchMapping("/{id}/cancel")
     public OrderResponse cancelOrder(@PathVariable Long id) {
-        try {
-            OrderQuery orderQuery = orderCommandService.cancelOrder(id);
-            return new OrderResponse(orderQuery);
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        } catch (IllegalStateException e) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
-        }
+        OrderQuery orderQuery = orderCommandService.cancelOrder(id);
+        return new OrderResponse(orderQuery);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteOrder(@PathVariable Long id) {
-        try {
-            orderCommandService.deleteOrder(id);
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        orderCommandService.deleteOrder(id);
+    }
+
+    // 검증을 통과한 주문만 한 트랜잭션으로 생성하고 청크 결과를 기록한 뒤 다음 index를 반환
+    private int createChunk(int startIndex, List<BulkOrder> chunk, OutputStream out) throws IOException {
+        if (chunk.isEmpty()) {
+            return startIndex;
         }
+
+        OrderBulkResultResponse[] results = new OrderBulkResultResponse[chunk.size()];
+        List<Integer> validIndexes = new ArrayList<>(chunk.size());
+        List<OrderCreateCommand> commands = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            OrderCreateRequest request = chunk.get(i).request();
+            // 검증기는 null을 받으면 예외를 던져 스트림 전체를 끊으므로 그 주문만 실패로 기록한다
+            if (request == null) {
+                String message = chunk.get(i).formatError() != null ? chunk.get(i).formatError() : "주문이 비어 있습니다";
+                results[i] = new OrderBulkResultResponse(startIndex + i, ErrorCode.INVALID_REQUEST, message);
+                continue;
+            }
+            Set<ConstraintViolation<OrderCreateRequest>> violations = validator.validate(request);
+            if (violations.isEmpty()) {
+                validIndexes.add(i);
+                commands.add(toCommand(request));
+            } else {
+                results[i] = new OrderBulkResultResponse(startIndex + i, ErrorCode.INVALID_REQUEST,
+                    violations.iterator().next().getMessage());
+            }
+        }
+
+        if (!commands.isEmpty()) {
+            try {
+                List<OrderCreateResult> created = orderCommandService.createOrders(commands);
+                for (int k = 0; k < created.size(); k++) {
+                    int i = validIndexes.get(k);
+                    results[i] = new OrderBulkResultResponse(startIndex + i, created.get(k));
+                }
+            } catch (RuntimeException e) {
+                // 청크 트랜잭션이 롤백되면 청크의 모든 주문이 실패로 기록된다
+                log.warn("주문 일괄 생성 청크 실패: index {}부터 {}건", startIndex, commands.size(), e);
+                for (int i : validIndexes) {
+                    results[i] = new OrderBulkResultResponse(startIndex + i, ErrorCode.CHUNK_FAILED,
+                        "주문 일괄 처리 오류");
+                }
+            }
+        }
+
+        for (OrderBulkResultResponse result : results) {
+            writeBulkResult(out, result);
+        }
+        out.flush();
+        return startIndex + chunk.size();
+    }
+
+    // 묶음 커밋(ordersystem.order-group-commit)이 켜져 있으면 동시에 들어온 주문과 한 트랜잭션으로 커밋한다
+    private OrderQuery create(OrderCreateCommand command) {
+        return orderGroupCommitter != null
+            ? orderGroupCommitter.createOrder(command)
+            : orderCommandService.createOrder(command);
+    }
+
+    private OrderCreateCommand toCommand(OrderCreateRequest request) {
+        List<OrderCreateCommand.OrderItemCommand> orderItemCommands = request.getOrderItems().stream()
+            .map(item -> new OrderCreateCommand.OrderItemCommand(item.getProductId(), item.getQuantity()))
+            .collect(Collectors.toList());
+
+        return new OrderCreateCommand(
+            request.getMemberId(),
+            orderItemCommands
+        );
+    }
+
+    private void writeBulkResult(OutputStream out, OrderBulkResultResponse result) throws IOException {
+        out.write(bulkResultWriter.writeValueAsBytes(result));
+        out.write('\n');
+    }
+
+    // 일괄 주문 한 건. 값 형식이 틀려 읽지 못했으면 request는 null이고 formatError에 이유가 담긴다
+    private record BulkOrder(OrderCreateRequest request, String formatError) {
     }
-}
\ No newline at end of file
+}
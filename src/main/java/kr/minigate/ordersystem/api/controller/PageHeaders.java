@@ -0,0 +1,31 @@
+package kr.minigate.ordersystem.api.controller;
+
+import kr.minigate.ordersystem.application.dto.CursorPage;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+// 목록 응답 본문은 배열 그대로 두고, 다음 페이지 커서는 헤더로 전달한다
+final class PageHeaders {
+
+    static final String NEXT_CURSOR = "X-Next-Cursor";
+
+    private PageHeaders() {
+    }
+
+    static <T> ResponseEntity<List<T>> ok(CursorPage<?> page, List<T> body) {
+        return builder(page).body(body);
+    }
+
+    static <T> ResponseEntity<List<T>> ok(CursorPage<?> page, List<T> body, String eTag) {
+        return builder(page).eTag(eTag).body(body);
+    }
+
+    private static ResponseEntity.BodyBuilder builder(CursorPage<?> page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.hasNext()) {
+            builder.header(NEXT_CURSOR, page.nextCursor());
+        }
+        return builder;
+    }
+}
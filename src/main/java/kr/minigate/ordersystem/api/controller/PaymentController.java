@@ -2,13 +2,18 @@ package kr.minigate.ordersystem.api.controller;
 
 import kr.minigate.ordersystem.api.request.PaymentCreateRequest;
 import kr.minigate.ordersystem.api.response.PaymentResponse;
+import kr.minigate.ordersystem.application.dto.CursorPage;
 import kr.minigate.ordersystem.application.dto.PaymentCreateCommand;
 import kr.minigate.ordersystem.application.dto.PaymentQuery;
 import kr.minigate.ordersystem.application.service.PaymentCommandService;
 import kr.minigate.ordersystem.application.service.PaymentQueryService;
 import kr.minigate.ordersystem.domain.PaymentStatus;
+import kr.minigate.ordersystem.infrastructure.idempotency.IdempotencyHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.Valid;
@@ -24,35 +29,37 @@ public class PaymentController {
 
     private final PaymentCommandService paymentCommandService;
     private final PaymentQueryService paymentQueryService;
+    private final IdempotencyHandler idempotencyHandler;
+    private final boolean asyncPayments;
 
-    public PaymentController(PaymentCommandService paymentCommandService, PaymentQueryService paymentQueryService) {
+    public PaymentController(PaymentCommandService paymentCommandService, PaymentQueryService paymentQueryService,
+                             IdempotencyHandler idempotencyHandler,
+                             @Value("${ordersystem.payment.async.enabled:false}") boolean asyncPayments) {
         this.paymentCommandService = paymentCommandService;
         this.paymentQueryService = paymentQueryService;
+        this.idempotencyHandler = idempotencyHandler;
+        this.asyncPayments = asyncPayments;
     }
 
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public PaymentResponse createPayment(@Valid @RequestBody PaymentCreateRequest request) {
+    public ResponseEntity<PaymentResponse> createPayment(@Valid @RequestBody PaymentCreateRequest request,
+                                         @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         // 서버 오류 시뮬레이션
         if (request.getOrderId() == 500L) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "결제 처리 서버 오류");
         }
 
-        try {
-            PaymentCreateCommand command = new PaymentCreateCommand(
-                request.getOrderId(),
-                request.getPaymentMethod()
-            );
-            PaymentQuery paymentQuery = paymentCommandService.processPayment(command);
-            return new PaymentResponse(paymentQuery);
-        } catch (IllegalArgumentException e) {
-            // 주문을 찾을 수 없는 경우 NOT_FOUND 반환
-            if (e.getMessage().contains("존재하지 않는 주문")) {
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-            }
-            // 중복 결제 등 기타 경우 BAD_REQUEST 반환
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
-        }
+        PaymentCreateCommand command = new PaymentCreateCommand(
+            request.getOrderId(),
+            request.getPaymentMethod()
+        );
+        // 비동기 모드에서는 대기 상태 결제를 202로 돌려주고 승인 결과는 조회 API로 확인한다
+        PaymentQuery paymentQuery = idempotencyHandler.execute("POST /api/payments", idempotencyKey, request,
+            PaymentQuery.class, () -> asyncPayments
+                ? paymentCommandService.requestPayment(command)
+                : paymentCommandService.processPayment(command));
+        HttpStatus status = paymentQuery.status() == PaymentStatus.PENDING ? HttpStatus.ACCEPTED : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(new PaymentResponse(paymentQuery));
     }
 
     @GetMapping("/order/{orderId}")
@@ -62,68 +69,50 @@ public class PaymentController {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "주문별 결제 조회 서버 오류");
         }
 
-        try {
-            PaymentQuery paymentQuery = paymentQueryService.getPaymentByOrderId(orderId);
-            return new PaymentResponse(paymentQuery);
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        }
+        PaymentQuery paymentQuery = paymentQueryService.getPaymentByOrderId(orderId);
+        return new PaymentResponse(paymentQuery);
     }
 
     @GetMapping("/{id}")
-    public PaymentResponse getPayment(@PathVariable Long id) {
+    public PaymentResponse getPayment(@PathVariable Long id, WebRequest webRequest) {
         // 서버 오류 시뮬레이션
         if (id == 500L) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "결제 조회 서버 오류");
         }
 
-        try {
-            PaymentQuery paymentQuery = paymentQueryService.getPayment(id);
-            return new PaymentResponse(paymentQuery);
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        // 비동기 결제 상태를 폴링하는 클라이언트는 승인 전까지 304를 받는다
+        if (ETags.notModified(webRequest, paymentQueryService.getPaymentLastModified(id))) {
+            return null;
         }
+
+        PaymentQuery paymentQuery = paymentQueryService.getPayment(id);
+        return new PaymentResponse(paymentQuery);
     }
 
     @GetMapping
-    public List<PaymentResponse> getAllPayments() {
-        List<PaymentQuery> paymentQueries = paymentQueryService.getAllPayments();
-        return paymentQueries.stream()
+    public ResponseEntity<List<PaymentResponse>> getAllPayments(@RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer size) {
+        CursorPage<PaymentQuery> page = paymentQueryService.getAllPayments(cursor, size);
+        return PageHeaders.ok(page, page.content().stream()
             .map(PaymentResponse::new)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
     }
 
     @PatchMapping("/{id}/cancel")
     public PaymentResponse cancelPayment(@PathVariable Long id) {
-        try {
-            PaymentQuery paymentQuery = paymentCommandService.cancelPayment(id);
-            return new PaymentResponse(paymentQuery);
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        } catch (IllegalStateException e) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
-        }
+        PaymentQuery paymentQuery = paymentCommandService.cancelPayment(id);
+        return new PaymentResponse(paymentQuery);
     }
 
     @PatchMapping("/{id}/refund")
     public PaymentResponse refundPayment(@PathVariable Long id, @RequestParam BigDecimal refundAmount) {
-        try {
-            PaymentQuery paymentQuery = paymentCommandService.refundPayment(id, refundAmount);
-            return new PaymentResponse(paymentQuery);
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
-        } catch (IllegalStateException e) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
-        }
+        PaymentQuery paymentQuery = paymentCommandService.refundPayment(id, refundAmount);
+        return new PaymentResponse(paymentQuery);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deletePayment(@PathVariable Long id) {
-        try {
-            paymentCommandService.deletePayment(id);
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        }
+        paymentCommandService.deletePayment(id);
     }
 }
\ No newline at end of file
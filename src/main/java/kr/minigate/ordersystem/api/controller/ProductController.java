@@ -1,54 +1,99 @@
 package kr.minigate.ordersystem.api.controller;
 
 import kr.minigate.ordersystem.api.request.ProductCreateRequest;
+import kr.minigate.ordersystem.api.request.ProductStockAdjustRequest;
+import kr.minigate.ordersystem.api.request.ProductUpsertRequest;
 import kr.minigate.ordersystem.api.response.ProductResponse;
+import kr.minigate.ordersystem.application.dto.CursorPage;
+import kr.minigate.ordersystem.application.dto.ProductCreateCommand;
+import kr.minigate.ordersystem.application.dto.ProductQuery;
+import kr.minigate.ordersystem.application.dto.ProductStockAdjustCommand;
+import kr.minigate.ordersystem.application.dto.ProductUpsertCommand;
+import kr.minigate.ordersystem.application.service.ProductCommandService;
+import kr.minigate.ordersystem.application.service.ProductQueryService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.Valid;
-import java.math.BigDecimal;
+import jakarta.validation.constraints.NotEmpty;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
 
+    private final ProductCommandService productCommandService;
+    private final ProductQueryService productQueryService;
+
+    public ProductController(ProductCommandService productCommandService, ProductQueryService productQueryService) {
+        this.productCommandService = productCommandService;
+        this.productQueryService = productQueryService;
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public ProductResponse createProduct(@Valid @RequestBody ProductCreateRequest request) {
-        // 서버 오류 시뮬레이션
-        if ("서버오류상품".equals(request.getName())) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "상품 등록 서버 오류");
-        }
-
-        // TODO: Service 계층 연결
-        return new ProductResponse(1L, request.getName(), request.getDescription(),
-                                 request.getPrice(), request.getStock());
+        ProductCreateCommand command = new ProductCreateCommand(
+            request.getName(),
+            request.getDescription(),
+            request.getPrice(),
+            request.getStock()
+        );
+        ProductQuery productQuery = productCommandService.createProduct(command);
+        return new ProductResponse(productQuery);
+    }
+
+    // 창고 동기화용 일괄 등록/수정. id가 없는 상품은 새로 등록하고, 있는 상품은 재고까지 이 값으로 덮어쓴다
+    @PutMapping("/bulk")
+    public List<ProductResponse> upsertProducts(@RequestBody @NotEmpty List<@Valid ProductUpsertRequest> requests) {
+        List<ProductUpsertCommand> commands = requests.stream()
+            .map(request -> new ProductUpsertCommand(
+                request.getId(),
+                request.getName(),
+                request.getDescription(),
+                request.getPrice(),
+                request.getStock()))
+            .toList();
+        return productCommandService.upsertProducts(commands).stream()
+            .map(ProductResponse::new)
+            .toList();
     }
 
+    // 재고 일괄 증감. 하나라도 실패하면 아무것도 반영하지 않는다
+    @PostMapping("/stock-adjustments")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void adjustStocks(@RequestBody @NotEmpty List<@Valid ProductStockAdjustRequest> requests) {
+        productCommandService.adjustStocks(requests.stream()
+            .map(request -> new ProductStockAdjustCommand(request.getProductId(), request.getDelta()))
+            .toList());
+    }
+
+    // If-None-Match가 ETag와 같으면 본문 없이 304로 응답한다
     @GetMapping
-    public List<ProductResponse> getAllProducts() {
-        // TODO: Service 계층 연결
-        return List.of(
-            new ProductResponse(1L, "아이폰 15", "애플 스마트폰", new BigDecimal("1200000"), 10),
-            new ProductResponse(2L, "갤럭시 S24", "삼성 스마트폰", new BigDecimal("1100000"), 5)
-        );
+    public ResponseEntity<List<ProductResponse>> getAllProducts(@RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer size) {
+        CursorPage<ProductQuery> page = productQueryService.getAllProducts(cursor, size);
+        return PageHeaders.ok(page, page.content().stream()
+            .map(ProductResponse::new)
+            .collect(Collectors.toList()), ETags.of(page));
+    }
+
+    // 이름/설명 전문 검색, 관련도 순. 마지막 단어는 접두어로도 찾는다
+    @GetMapping("/search")
+    public List<ProductResponse> searchProducts(@RequestParam String q,
+                                                @RequestParam(required = false) Integer size) {
+        return productQueryService.searchProducts(q, size).stream()
+            .map(ProductResponse::new)
+            .toList();
     }
 
     @GetMapping("/{id}")
-    public ProductResponse getProduct(@PathVariable Long id) {
-        // 존재하지 않는 상품
-        if (id == 999L) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 상품입니다");
-        }
-
-        // 서버 오류 시뮬레이션
-        if (id == 500L) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "상품 조회 서버 오류");
-        }
-
-        // TODO: Service 계층 연결
-        return new ProductResponse(id, "아이폰 15", "애플 스마트폰", new BigDecimal("1200000"), 10);
+    public ResponseEntity<ProductResponse> getProduct(@PathVariable Long id) {
+        ProductQuery productQuery = productQueryService.getProduct(id);
+        return ResponseEntity.ok()
+            .eTag(ETags.of(productQuery))
+            .body(new ProductResponse(productQuery));
     }
-}
\ No newline at end of file
+}
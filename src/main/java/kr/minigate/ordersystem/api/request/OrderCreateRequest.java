@@ -18,7 +18,7 @@ public class OrderCreateRequest {
 
     @NotEmpty(message = "주문 상품은 최소 1개 이상이어야 합니다")
     @Valid
-    private List<OrderItemRequest> orderItems;
+    private List<@NotNull(message = "주문 상품은 비어 있을 수 없습니다") OrderItemRequest> orderItems;
 
     public OrderCreateRequest(Long memberId, List<OrderItemRequest> orderItems) {
         this.memberId = memberId;
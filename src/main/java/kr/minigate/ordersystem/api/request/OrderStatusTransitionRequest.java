@@ -0,0 +1,27 @@
+package kr.minigate.ordersystem.api.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import kr.minigate.ordersystem.domain.OrderStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class OrderStatusTransitionRequest {
+
+    @NotEmpty(message = "주문 ID는 최소 1개 이상이어야 합니다")
+    @Size(max = 10000, message = "한 번에 최대 10000건까지 변경할 수 있습니다")
+    private List<@NotNull(message = "주문 ID는 필수입니다") Long> orderIds;
+
+    @NotNull(message = "변경할 상태는 필수입니다")
+    private OrderStatus status;
+
+    public OrderStatusTransitionRequest(List<Long> orderIds, OrderStatus status) {
+        this.orderIds = orderIds;
+        this.status = status;
+    }
+}
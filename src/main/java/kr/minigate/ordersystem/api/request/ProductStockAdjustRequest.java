@@ -0,0 +1,22 @@
+package kr.minigate.ordersystem.api.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ProductStockAdjustRequest {
+
+    @NotNull(message = "상품 ID는 필수입니다")
+    private Long productId;
+
+    // 음수면 차감
+    @NotNull(message = "재고 증감량은 필수입니다")
+    private Integer delta;
+
+    public ProductStockAdjustRequest(Long productId, Integer delta) {
+        this.productId = productId;
+        this.delta = delta;
+    }
+}
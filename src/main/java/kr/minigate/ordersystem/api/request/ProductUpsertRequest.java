@@ -0,0 +1,39 @@
+package kr.minigate.ordersystem.api.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor
+public class ProductUpsertRequest {
+
+    // 없으면 새 상품으로 등록
+    private Long id;
+
+    @NotBlank(message = "상품명은 필수입니다")
+    private String name;
+
+    private String description;
+
+    @NotNull(message = "가격은 필수입니다")
+    @Positive(message = "가격은 0보다 커야 합니다")
+    private BigDecimal price;
+
+    @NotNull(message = "재고는 필수입니다")
+    @PositiveOrZero(message = "재고는 0 이상이어야 합니다")
+    private Integer stock;
+
+    public ProductUpsertRequest(Long id, String name, String description, BigDecimal price, Integer stock) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.stock = stock;
+    }
+}
@@ -0,0 +1,39 @@
+package kr.minigate.ordersystem.api.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import kr.minigate.ordersystem.application.dto.OrderCreateResult;
+import kr.minigate.ordersystem.domain.exception.ErrorCode;
+import lombok.Getter;
+
+// 일괄 주문 생성 결과 한 줄. index는 요청에서의 순서(0부터)
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderBulkResultResponse {
+
+    private final int index;
+    private final Status status;
+    private final OrderResponse order;
+    private final String code;
+    private final String message;
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    public OrderBulkResultResponse(int index, OrderCreateResult result) {
+        this.index = index;
+        this.status = result.isCreated() ? Status.CREATED : Status.FAILED;
+        this.order = result.isCreated() ? new OrderResponse(result.order()) : null;
+        this.code = result.isCreated() ? null : result.errorCode().code();
+        this.message = result.message();
+    }
+
+    public OrderBulkResultResponse(int index, ErrorCode errorCode, String message) {
+        this.index = index;
+        this.status = Status.FAILED;
+        this.order = null;
+        this.code = errorCode.code();
+        this.message = message;
+    }
+}
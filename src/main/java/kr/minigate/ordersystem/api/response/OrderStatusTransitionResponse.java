@@ -0,0 +1,31 @@
+package kr.minigate.ordersystem.api.response;
+
+import kr.minigate.ordersystem.application.dto.OrderStatusTransitionResult;
+import kr.minigate.ordersystem.domain.OrderStatus;
+import lombok.Getter;
+
+import java.util.List;
+
+// 일괄 상태 변경 결과. 바꾸지 못한 주문만 failures에 담는다
+@Getter
+public class OrderStatusTransitionResponse {
+
+    private final OrderStatus status;
+    private final int requested;
+    private final int updated;
+    private final int unchanged;
+    private final List<Failure> failures;
+
+    public OrderStatusTransitionResponse(OrderStatusTransitionResult result) {
+        this.status = result.status();
+        this.requested = result.requested();
+        this.updated = result.updated();
+        this.unchanged = result.unchanged();
+        this.failures = result.failures().stream()
+            .map(failure -> new Failure(failure.orderId(), failure.errorCode().code(), failure.message()))
+            .toList();
+    }
+
+    public record Failure(Long orderId, String code, String message) {
+    }
+}
@@ -23,6 +23,14 @@ public class ProductResponse {
         this.stock = product.getStock();
     }
 
+    public ProductResponse(ProductQuery productQuery) {
+        this.id = productQuery.id();
+        this.name = productQuery.name();
+        this.description = productQuery.description();
+        this.price = productQuery.price();
+        this.stock = productQuery.stock();
+    }
+
     public ProductResponse(Long id, String name, String description, BigDecimal price, Integer stock) {
         this.id = id;
         this.name = name;
@@ -0,0 +1,30 @@
+package kr.minigate.ordersystem.application.dto;
+
+import kr.minigate.ordersystem.domain.exception.BusinessException;
+import kr.minigate.ordersystem.domain.exception.ErrorCode;
+
+// 일괄 주문 생성에서 주문 하나의 결과. 실패하면 order 대신 실패 원인을 담는다
+public record OrderCreateResult(
+    OrderQuery order,
+    BusinessException error
+) {
+    public static OrderCreateResult created(OrderQuery order) {
+        return new OrderCreateResult(order, null);
+    }
+
+    public static OrderCreateResult failed(BusinessException e) {
+        return new OrderCreateResult(null, e);
+    }
+
+    public boolean isCreated() {
+        return order != null;
+    }
+
+    public ErrorCode errorCode() {
+        return error != null ? error.getErrorCode() : null;
+    }
+
+    public String message() {
+        return error != null ? error.getMessage() : null;
+    }
+}
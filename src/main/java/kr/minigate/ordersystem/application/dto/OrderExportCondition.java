@@ -0,0 +1,12 @@
+package kr.minigate.ordersystem.application.dto;
+
+import kr.minigate.ordersystem.domain.OrderStatus;
+
+import java.time.LocalDateTime;
+
+public record OrderExportCondition(
+    OrderStatus status,
+    LocalDateTime from,
+    LocalDateTime to
+) {
+}
@@ -0,0 +1,18 @@
+package kr.minigate.ordersystem.application.dto;
+
+import java.math.BigDecimal;
+
+// 주문 아이템 프로젝션 행. 주문 ID로 묶어 OrderQuery에 조립한다
+public record OrderItemRow(
+    Long orderId,
+    Long id,
+    Long productId,
+    String productName,
+    Integer quantity,
+    BigDecimal price,
+    BigDecimal amount
+) {
+    public OrderQuery.OrderItemQuery toOrderItemQuery() {
+        return new OrderQuery.OrderItemQuery(id, productId, productName, quantity, price, amount);
+    }
+}
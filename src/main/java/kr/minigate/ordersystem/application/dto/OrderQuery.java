@@ -17,6 +17,16 @@ public record OrderQuery(
     List<OrderItemQuery> orderItems,
     LocalDateTime createdAt
 ) {
+    // 프로젝션 쿼리용 생성자. 주문 아이템은 별도 쿼리로 채운다
+    public OrderQuery(Long id, Long memberId, String memberName, BigDecimal totalAmount,
+                      OrderStatus status, LocalDateTime createdAt) {
+        this(id, memberId, memberName, totalAmount, status, List.of(), createdAt);
+    }
+
+    public OrderQuery withOrderItems(List<OrderItemQuery> orderItems) {
+        return new OrderQuery(id, memberId, memberName, totalAmount, status, orderItems, createdAt);
+    }
+
     public static OrderQuery from(Order order) {
         List<OrderItemQuery> orderItemQueries = order.getOrderItems() != null ?
             order.getOrderItems().stream()
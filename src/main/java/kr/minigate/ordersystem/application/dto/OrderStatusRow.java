@@ -0,0 +1,10 @@
+package kr.minigate.ordersystem.application.dto;
+
+import kr.minigate.ordersystem.domain.OrderStatus;
+
+// 주문 상태 프로젝션 행 (일괄 상태 전이 검사용)
+public record OrderStatusRow(
+    Long id,
+    OrderStatus status
+) {
+}
@@ -0,0 +1,18 @@
+package kr.minigate.ordersystem.application.dto;
+
+import kr.minigate.ordersystem.domain.OrderStatus;
+import kr.minigate.ordersystem.domain.exception.ErrorCode;
+
+import java.util.List;
+
+// 일괄 상태 전이 결과. 이미 목표 상태인 주문은 unchanged로 세고 실패로 보지 않는다
+public record OrderStatusTransitionResult(
+    OrderStatus status,
+    int requested,
+    int updated,
+    int unchanged,
+    List<Failure> failures
+) {
+    public record Failure(Long orderId, ErrorCode errorCode, String message) {
+    }
+}
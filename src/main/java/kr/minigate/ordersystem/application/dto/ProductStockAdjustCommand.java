@@ -0,0 +1,8 @@
+package kr.minigate.ordersystem.application.dto;
+
+// 재고 증감. 음수면 차감한다
+public record ProductStockAdjustCommand(
+    Long productId,
+    int delta
+) {
+}
@@ -0,0 +1,8 @@
+package kr.minigate.ordersystem.application.dto;
+
+// 상품 재고 프로젝션 행
+public record ProductStockRow(
+    Long id,
+    Integer stock
+) {
+}
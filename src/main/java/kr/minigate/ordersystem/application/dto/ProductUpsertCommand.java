@@ -0,0 +1,13 @@
+package kr.minigate.ordersystem.application.dto;
+
+import java.math.BigDecimal;
+
+// id가 없으면 새 상품으로 등록하고, 있으면 상품 정보와 재고를 이 값으로 덮어쓴다
+public record ProductUpsertCommand(
+    Long id,
+    String name,
+    String description,
+    BigDecimal price,
+    Integer stock
+) {
+}
@@ -0,0 +1,13 @@
+package kr.minigate.ordersystem.application.event;
+
+// 명령 서비스가 트랜잭션 안에서 발행하는 이벤트. 아웃박스에 같은 트랜잭션으로 기록된다
+public sealed interface DomainEvent permits OrderEvent, PaymentEvent, ProductEvent {
+
+    String aggregateType();
+
+    Long aggregateId();
+
+    String eventType();
+
+    Object payload();
+}
@@ -0,0 +1,35 @@
+package kr.minigate.ordersystem.application.event;
+
+import kr.minigate.ordersystem.application.dto.OrderQuery;
+
+import java.util.Locale;
+
+public record OrderEvent(Type type, OrderQuery order) implements DomainEvent {
+
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED,
+        CANCELLED
+    }
+
+    @Override
+    public String aggregateType() {
+        return "order";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return order.id();
+    }
+
+    // 예: order.created
+    @Override
+    public String eventType() {
+        return aggregateType() + "." + type.name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public Object payload() {
+        return order;
+    }
+}
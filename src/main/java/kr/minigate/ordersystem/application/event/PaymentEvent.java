@@ -0,0 +1,37 @@
+package kr.minigate.ordersystem.application.event;
+
+import kr.minigate.ordersystem.application.dto.PaymentQuery;
+
+import java.util.Locale;
+
+public record PaymentEvent(Type type, PaymentQuery payment) implements DomainEvent {
+
+    public enum Type {
+        REQUESTED,
+        COMPLETED,
+        FAILED,
+        CANCELLED,
+        REFUNDED
+    }
+
+    @Override
+    public String aggregateType() {
+        return "payment";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return payment.id();
+    }
+
+    // 예: payment.completed
+    @Override
+    public String eventType() {
+        return aggregateType() + "." + type.name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public Object payload() {
+        return payment;
+    }
+}
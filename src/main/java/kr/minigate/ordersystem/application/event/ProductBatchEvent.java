@@ -0,0 +1,17 @@
+package kr.minigate.ordersystem.application.event;
+
+import kr.minigate.ordersystem.application.dto.ProductQuery;
+
+import java.util.List;
+
+// 한 번의 명령으로 등록/수정된 상품들. 카탈로그와 검색 인덱스는 한 번에 반영하고, 아웃박스에는 상품마다 한 행씩 기록한다
+public record ProductBatchEvent(List<ProductEvent> events) {
+
+    public ProductBatchEvent(ProductEvent event) {
+        this(List.of(event));
+    }
+
+    public List<ProductQuery> products() {
+        return events.stream().map(ProductEvent::product).toList();
+    }
+}
@@ -0,0 +1,34 @@
+package kr.minigate.ordersystem.application.event;
+
+import kr.minigate.ordersystem.application.dto.ProductQuery;
+
+import java.util.Locale;
+
+public record ProductEvent(Type type, ProductQuery product) implements DomainEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED
+    }
+
+    @Override
+    public String aggregateType() {
+        return "product";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return product.id();
+    }
+
+    // 예: product.created
+    @Override
+    public String eventType() {
+        return aggregateType() + "." + type.name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public Object payload() {
+        return product;
+    }
+}
@@ -0,0 +1,11 @@
+package kr.minigate.ordersystem.application.event;
+
+import java.util.List;
+
+// 재고 UPDATE가 반영된 상품들. 재고는 주문마다 바뀌므로 아웃박스에는 기록하지 않는다
+public record ProductStockChangedEvent(List<Long> productIds) {
+
+    public ProductStockChangedEvent(Long productId) {
+        this(List.of(productId));
+    }
+}
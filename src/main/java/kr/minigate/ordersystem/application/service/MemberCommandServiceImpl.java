@@ -1,9 +1,12 @@
 package kr.minigate.ordersystem.application.service;
 
 import kr.minigate.ordersystem.application.dto.MemberCreateCommand;
-import kr.minigate.ordersystem.application.dto.MemberUpdateCommand;
 import kr.minigate.ordersystem.application.dto.MemberQuery;
+import kr.minigate.ordersystem.application.dto.MemberUpdateCommand;
 import kr.minigate.ordersystem.domain.Member;
+import kr.minigate.ordersystem.domain.exception.DuplicateEmailException;
+import kr.minigate.ordersystem.domain.exception.InvalidRequestException;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
 import kr.minigate.ordersystem.domain.repository.MemberRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,17 +25,17 @@ public class MemberCommandServiceImpl implements MemberCommandService {
     public MemberQuery createMember(MemberCreateCommand command) {
         // 이메일 유효성 검사
         if (command.email() == null || !command.email().contains("@")) {
-            throw new IllegalArgumentException("유효하지 않은 이메일 형식입니다");
+            throw new InvalidRequestException("유효하지 않은 이메일 형식입니다");
         }
 
         // 중복 이메일 확인
         if (memberRepository.existsByEmail(command.email())) {
-            throw new IllegalArgumentException("이미 존재하는 이메일입니다");
+            throw new DuplicateEmailException("이미 존재하는 이메일입니다");
         }
 
         // 필수 필드 검증
         if (command.name() == null || command.name().trim().isEmpty()) {
-            throw new IllegalArgumentException("회원 이름은 필수입니다");
+            throw new InvalidRequestException("회원 이름은 필수입니다");
         }
 
         Member member = Member.builder()
@@ -49,11 +52,11 @@ public class MemberCommandServiceImpl implements MemberCommandService {
     @Override
     public MemberQuery updateMember(Long id, MemberUpdateCommand command) {
         Member member = memberRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다"));
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 회원입니다"));
 
         // 업데이트할 데이터 검증
         if (command.name() == null || command.name().trim().isEmpty()) {
-            throw new IllegalArgumentException("회원 이름은 필수입니다");
+            throw new InvalidRequestException("회원 이름은 필수입니다");
         }
 
         member.updateProfile(
@@ -68,7 +71,7 @@ public class MemberCommandServiceImpl implements MemberCommandService {
     @Override
     public void deleteMember(Long id) {
         Member member = memberRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다"));
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 회원입니다"));
 
         // 회원 관련 주문이 있는지 확인
         // 실제 구현에서는 OrderRepository를 주입받아 확인해야 함
@@ -1,10 +1,13 @@
 package kr.minigate.ordersystem.application.service;
 
+import kr.minigate.ordersystem.application.dto.CursorPage;
 import kr.minigate.ordersystem.application.dto.MemberQuery;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 public interface MemberQueryService {
-    List<MemberQuery> getAllMembers();
+    CursorPage<MemberQuery> getAllMembers(String cursor, Integer size);
     MemberQuery getMember(Long id);
+    Optional<LocalDateTime> getMemberLastModified(Long id);
 }
\ No newline at end of file
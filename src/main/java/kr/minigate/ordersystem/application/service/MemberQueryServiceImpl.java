@@ -1,12 +1,17 @@
 package kr.minigate.ordersystem.application.service;
 
+import kr.minigate.ordersystem.application.dto.CursorPage;
 import kr.minigate.ordersystem.application.dto.MemberQuery;
+import kr.minigate.ordersystem.application.dto.PageCursor;
 import kr.minigate.ordersystem.domain.Member;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
 import kr.minigate.ordersystem.domain.repository.MemberRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @Transactional(readOnly = true)
@@ -19,17 +24,24 @@ public class MemberQueryServiceImpl implements MemberQueryService {
     }
 
     @Override
-    public List<MemberQuery> getAllMembers() {
-        return memberRepository.findAll()
-            .stream()
-            .map(MemberQuery::from)
-            .toList();
+    public CursorPage<MemberQuery> getAllMembers(String cursor, Integer size) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int pageSize = CursorPage.normalizeSize(size);
+        List<MemberQuery> members = pageCursor == null
+            ? memberRepository.findLatestQueries(CursorPage.fetchLimit(pageSize))
+            : memberRepository.findQueriesOlderThan(pageCursor.createdAt(), pageCursor.id(), CursorPage.fetchLimit(pageSize));
+        return CursorPage.of(members, pageSize, member -> new PageCursor(member.createdAt(), member.id()));
     }
 
     @Override
     public MemberQuery getMember(Long id) {
-        Member member = memberRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다"));
-        return MemberQuery.from(member);
+        return memberRepository.findQueryById(id)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 회원입니다"));
+    }
+
+    // 회원은 2차 캐시에 있으므로 조건부 조회는 대부분 DB를 거치지 않는다
+    @Override
+    public Optional<LocalDateTime> getMemberLastModified(Long id) {
+        return memberRepository.findById(id).map(Member::getUpdatedAt);
     }
 }
\ No newline at end of file
@@ -1,12 +1,18 @@
 package kr.minigate.ordersystem.application.service;
 
 import kr.minigate.ordersystem.application.dto.OrderCreateCommand;
+import kr.minigate.ordersystem.application.dto.OrderCreateResult;
 import kr.minigate.ordersystem.application.dto.OrderQuery;
+import kr.minigate.ordersystem.application.dto.OrderStatusTransitionResult;
 import kr.minigate.ordersystem.domain.OrderStatus;
 
+import java.util.List;
+
 public interface OrderCommandService {
     OrderQuery createOrder(OrderCreateCommand command);
+    List<OrderCreateResult> createOrders(List<OrderCreateCommand> commands);
     OrderQuery updateOrderStatus(Long id, OrderStatus status);
+    OrderStatusTransitionResult updateOrderStatuses(List<Long> ids, OrderStatus status);
     OrderQuery cancelOrder(Long id);
     void deleteOrder(Long id);
 }
\ No newline at end of file
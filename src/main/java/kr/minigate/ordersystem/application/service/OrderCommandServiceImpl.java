@@ -1,100 +1,296 @@
 package kr.minigate.ordersystem.application.service;
 
 import kr.minigate.ordersystem.application.dto.OrderCreateCommand;
+import kr.minigate.ordersystem.application.dto.OrderCreateResult;
+import kr.minigate.ordersystem.application.dto.OrderItemRow;
 import kr.minigate.ordersystem.application.dto.OrderQuery;
+import kr.minigate.ordersystem.application.dto.OrderStatusRow;
+import kr.minigate.ordersystem.application.dto.OrderStatusTransitionResult;
+import kr.minigate.ordersystem.application.event.OrderEvent;
 import kr.minigate.ordersystem.domain.Member;
 import kr.minigate.ordersystem.domain.Order;
 import kr.minigate.ordersystem.domain.OrderItem;
 import kr.minigate.ordersystem.domain.OrderStatus;
 import kr.minigate.ordersystem.domain.Product;
+import kr.minigate.ordersystem.domain.exception.BusinessException;
+import kr.minigate.ordersystem.domain.exception.ErrorCode;
+import kr.minigate.ordersystem.domain.exception.InsufficientStockException;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
 import kr.minigate.ordersystem.domain.repository.MemberRepository;
 import kr.minigate.ordersystem.domain.repository.OrderRepository;
 import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class OrderCommandServiceImpl implements OrderCommandService {
 
+    private static final int TRANSITION_CHUNK_SIZE = 1000;
+
     private final OrderRepository orderRepository;
     private final MemberRepository memberRepository;
     private final ProductRepository productRepository;
+    private final StockService stockService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DateTimeProvider dateTimeProvider;
 
     public OrderCommandServiceImpl(OrderRepository orderRepository,
                                  MemberRepository memberRepository,
-                                 ProductRepository productRepository) {
+                                 ProductRepository productRepository,
+                                 StockService stockService,
+                                 ApplicationEventPublisher eventPublisher,
+                                 DateTimeProvider dateTimeProvider) {
         this.orderRepository = orderRepository;
         this.memberRepository = memberRepository;
         this.productRepository = productRepository;
+        this.stockService = stockService;
+        this.eventPublisher = eventPublisher;
+        this.dateTimeProvider = dateTimeProvider;
     }
 
     @Override
     public OrderQuery createOrder(OrderCreateCommand command) {
         // 회원 존재 여부 확인
         Member member = memberRepository.findById(command.memberId())
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다"));
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 회원입니다"));
 
-        // 주문 아이템 생성 및 검증
-        List<OrderItem> orderItems = command.orderItems().stream()
-            .map(itemCommand -> {
-                Product product = productRepository.findById(itemCommand.productId())
-                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다"));
+        // 재고 선점 (일반 상품은 조건부 UPDATE, 인기 상품은 메모리 원장).
+        // 네이티브 UPDATE는 자동 플러시되지 않으므로 쓰지 않은 변경은 시작 전에 한 번만 반영한다
+        Map<Long, Integer> requestedQuantities = requestedQuantities(command);
+        productRepository.flush();
+        requestedQuantities.forEach((productId, quantity) -> {
+            if (!stockService.decreaseStock(productId, quantity)) {
+                Product product = productRepository.findById(productId).orElse(null);
+                throw stockFailure(product);
+            }
+        });
 
-                // 재고 확인
-                if (product.getStock() < itemCommand.quantity()) {
-                    throw new IllegalArgumentException("재고가 부족합니다. 상품: " + product.getName());
-                }
+        // 주문 상품 일괄 조회 (차감이 반영된 상태)
+        Map<Long, Product> products = findProducts(requestedQuantities.keySet());
 
-                // 재고 차감
-                product.decreaseStock(itemCommand.quantity());
-                productRepository.save(product);
+        Order savedOrder = orderRepository.save(newOrder(member, command, products));
+        return publish(OrderEvent.Type.CREATED, OrderQuery.from(savedOrder));
+    }
 
-                // 주문 아이템 생성
-                BigDecimal itemAmount = product.getPrice().multiply(new BigDecimal(itemCommand.quantity()));
+    // 한 청크를 한 트랜잭션으로 처리한다. 회원과 상품은 청크 전체를 한 번에 조회하고 주문은 배치 INSERT로 저장한다.
+    // 실패한 주문은 자기가 선점한 재고만 되돌리므로 같은 청크의 다른 주문에 영향을 주지 않는다
+    @Override
+    public List<OrderCreateResult> createOrders(List<OrderCreateCommand> commands) {
+        Map<Long, Member> members = memberRepository.findAllById(commands.stream()
+                .map(OrderCreateCommand::memberId)
+                .collect(Collectors.toSet())).stream()
+            .collect(Collectors.toMap(Member::getId, Function.identity()));
 
-                return OrderItem.builder()
-                    .product(product)
-                    .quantity(itemCommand.quantity())
-                    .price(product.getPrice())
-                    .amount(itemAmount)
-                    .build();
-            })
-            .collect(java.util.stream.Collectors.toList());
+        OrderCreateResult[] results = new OrderCreateResult[commands.size()];
+        Map<Integer, Set<Long>> reserved = new LinkedHashMap<>();
+        Map<Integer, Long> outOfStock = new HashMap<>();
+        productRepository.flush();
+        for (int i = 0; i < commands.size(); i++) {
+            OrderCreateCommand command = commands.get(i);
+            if (!members.containsKey(command.memberId())) {
+                results[i] = OrderCreateResult.failed(new NotFoundException("존재하지 않는 회원입니다"));
+                continue;
+            }
+            Map<Long, Integer> requestedQuantities = requestedQuantities(command);
+            Long failedProductId = reserveStock(requestedQuantities);
+            if (failedProductId == null) {
+                reserved.put(i, requestedQuantities.keySet());
+            } else {
+                outOfStock.put(i, failedProductId);
+            }
+        }
 
-        // 도메인 팩토리 메서드 사용
-        Order order = Order.createOrder(member, orderItems);
+        // 선점한 주문의 상품과 실패 메시지에 쓸 상품을 한 번에 조회
+        Set<Long> productIds = new HashSet<>(outOfStock.values());
+        reserved.values().forEach(productIds::addAll);
+        Map<Long, Product> products = findProducts(productIds);
+        outOfStock.forEach((i, productId) ->
+            results[i] = OrderCreateResult.failed(stockFailure(products.get(productId))));
 
-        Order savedOrder = orderRepository.save(order);
-        return OrderQuery.from(savedOrder);
+        List<Integer> orderIndexes = new ArrayList<>(reserved.keySet());
+        List<Order> orders = orderIndexes.stream()
+            .map(i -> newOrder(members.get(commands.get(i).memberId()), commands.get(i), products))
+            .toList();
+        orderRepository.saveAll(orders);
+        for (int k = 0; k < orders.size(); k++) {
+            results[orderIndexes.get(k)] = OrderCreateResult.created(
+                publish(OrderEvent.Type.CREATED, OrderQuery.from(orders.get(k))));
+        }
+        return List.of(results);
     }
 
     @Override
     public OrderQuery updateOrderStatus(Long id, OrderStatus status) {
-        Order order = orderRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다"));
+        Order order = orderRepository.findWithOrderItemsById(id)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 주문입니다"));
 
         order.updateStatus(status);
-        return OrderQuery.from(order);
+        return publish(OrderEvent.Type.STATUS_CHANGED, OrderQuery.from(order));
+    }
+
+    // 청크마다 현재 상태만 조회해 전이 표로 검사하고, 바꿀 수 있는 주문은
+    // "id in (...) and status in (전이 가능한 상태)" 조건의 UPDATE 한 문장으로 바꾼다
+    @Override
+    public OrderStatusTransitionResult updateOrderStatuses(List<Long> ids, OrderStatus status) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        // 벌크 UPDATE는 감사 리스너를 거치지 않으므로 같은 시각 공급자에서 수정 시각을 받는다
+        LocalDateTime updatedAt = LocalDateTime.from(dateTimeProvider.getNow().orElseThrow());
+        int updated = 0;
+        int unchanged = 0;
+        List<OrderStatusTransitionResult.Failure> failures = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += TRANSITION_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + TRANSITION_CHUNK_SIZE, distinctIds.size()));
+            Map<Long, OrderStatus> current = statusesOf(chunk);
+
+            List<Long> allowed = new ArrayList<>(chunk.size());
+            for (Long id : chunk) {
+                OrderStatus currentStatus = current.get(id);
+                if (currentStatus == status) {
+                    unchanged++;
+                } else if (currentStatus == null || !currentStatus.canTransitionTo(status)) {
+                    failures.add(transitionFailure(id, currentStatus, status));
+                } else {
+                    allowed.add(id);
+                }
+            }
+            if (allowed.isEmpty()) {
+                continue;
+            }
+
+            List<Long> changed = allowed;
+            if (orderRepository.updateStatuses(allowed, OrderStatus.sourcesOf(status), status, updatedAt)
+                    < allowed.size()) {
+                // 조회와 UPDATE 사이에 다른 요청이 바꾼 주문은 다시 읽어 결과를 정한다
+                Map<Long, OrderStatus> after = statusesOf(allowed);
+                changed = allowed.stream().filter(id -> after.get(id) == status).toList();
+                allowed.stream()
+                    .filter(id -> after.get(id) != status)
+                    .forEach(id -> failures.add(transitionFailure(id, after.get(id), status)));
+            }
+            updated += changed.size();
+            withOrderItems(orderRepository.findQueriesByIdIn(changed))
+                .forEach(orderQuery -> publish(OrderEvent.Type.STATUS_CHANGED, orderQuery));
+        }
+        return new OrderStatusTransitionResult(status, distinctIds.size(), updated, unchanged, failures);
     }
 
     @Override
     public OrderQuery cancelOrder(Long id) {
-        Order order = orderRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다"));
+        Order order = orderRepository.findWithOrderItemsById(id)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 주문입니다"));
 
         order.cancel();
-        return OrderQuery.from(order);
+        return publish(OrderEvent.Type.CANCELLED, OrderQuery.from(order));
     }
 
     @Override
     public void deleteOrder(Long id) {
         Order order = orderRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다"));
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 주문입니다"));
 
         orderRepository.delete(order);
     }
-}
\ No newline at end of file
+
+    // 상품별 요청 수량 합산 (상품 ID 순으로 갱신해 교착 상태를 피한다)
+    private Map<Long, Integer> requestedQuantities(OrderCreateCommand command) {
+        Map<Long, Integer> requestedQuantities = new TreeMap<>();
+        command.orderItems().forEach(itemCommand ->
+            requestedQuantities.merge(itemCommand.productId(), itemCommand.quantity(), Integer::sum));
+        return requestedQuantities;
+    }
+
+    // 모두 선점하면 null, 하나라도 부족하면 앞서 선점한 재고를 되돌리고 부족한 상품 ID를 반환
+    private Long reserveStock(Map<Long, Integer> requestedQuantities) {
+        Map<Long, Integer> decreased = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> entry : requestedQuantities.entrySet()) {
+            if (!stockService.decreaseStock(entry.getKey(), entry.getValue())) {
+                decreased.forEach(stockService::increaseStock);
+                return entry.getKey();
+            }
+            decreased.put(entry.getKey(), entry.getValue());
+        }
+        return null;
+    }
+
+    private Map<Long, Product> findProducts(Collection<Long> productIds) {
+        return productRepository.findAllById(productIds).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+
+    // 조건부 차감이 실패한 상품: 없으면 NOT_FOUND, 있으면 재고 부족
+    private BusinessException stockFailure(Product product) {
+        if (product == null) {
+            return new NotFoundException("존재하지 않는 상품입니다");
+        }
+        return new InsufficientStockException("재고가 부족합니다. 상품: " + product.getName());
+    }
+
+    private Order newOrder(Member member, OrderCreateCommand command, Map<Long, Product> products) {
+        List<OrderItem> orderItems = command.orderItems().stream()
+            .map(itemCommand -> {
+                Product product = products.get(itemCommand.productId());
+                BigDecimal itemAmount = product.getPrice().multiply(new BigDecimal(itemCommand.quantity()));
+
+                return OrderItem.builder()
+                    .product(product)
+                    .quantity(itemCommand.quantity())
+                    .price(product.getPrice())
+                    .amount(itemAmount)
+                    .build();
+            })
+            .collect(Collectors.toList());
+
+        // 도메인 팩토리 메서드 사용
+        return Order.createOrder(member, orderItems);
+    }
+
+    private Map<Long, OrderStatus> statusesOf(Collection<Long> ids) {
+        return orderRepository.findStatusRows(ids).stream()
+            .collect(Collectors.toMap(OrderStatusRow::id, OrderStatusRow::status));
+    }
+
+    private OrderStatusTransitionResult.Failure transitionFailure(Long id, OrderStatus current, OrderStatus status) {
+        if (current == null) {
+            return new OrderStatusTransitionResult.Failure(id, ErrorCode.NOT_FOUND, "존재하지 않는 주문입니다");
+        }
+        return new OrderStatusTransitionResult.Failure(id, ErrorCode.INVALID_STATE,
+            Order.transitionErrorMessage(current, status));
+    }
+
+    // 이벤트 본문은 단건 상태 변경과 같도록 주문 아이템까지 채운다
+    private List<OrderQuery> withOrderItems(List<OrderQuery> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        Map<Long, List<OrderQuery.OrderItemQuery>> itemsByOrderId = orderRepository
+            .findOrderItemRows(orders.stream().map(OrderQuery::id).toList()).stream()
+            .collect(Collectors.groupingBy(OrderItemRow::orderId,
+                Collectors.mapping(OrderItemRow::toOrderItemQuery, Collectors.toList())));
+        return orders.stream()
+            .map(order -> order.withOrderItems(itemsByOrderId.getOrDefault(order.id(), List.of())))
+            .toList();
+    }
+
+    // 아웃박스 기록은 같은 트랜잭션에서 동기 리스너가 처리
+    private OrderQuery publish(OrderEvent.Type type, OrderQuery orderQuery) {
+        eventPublisher.publishEvent(new OrderEvent(type, orderQuery));
+        return orderQuery;
+    }
+}
@@ -1,11 +1,17 @@
 package kr.minigate.ordersystem.application.service;
 
+import kr.minigate.ordersystem.application.dto.CursorPage;
+import kr.minigate.ordersystem.application.dto.OrderExportCondition;
 import kr.minigate.ordersystem.application.dto.OrderQuery;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface OrderQueryService {
-    List<OrderQuery> getOrdersByMemberId(Long memberId);
+    CursorPage<OrderQuery> getOrdersByMemberId(Long memberId, String cursor, Integer size);
     OrderQuery getOrder(Long id);
-    List<OrderQuery> getAllOrders();
+    Optional<LocalDateTime> getOrderLastModified(Long id);
+    CursorPage<OrderQuery> getAllOrders(String cursor, Integer size);
+    void exportOrders(OrderExportCondition condition, Consumer<OrderQuery> sink);
 }
\ No newline at end of file
@@ -1,42 +1,141 @@
 package kr.minigate.ordersystem.application.service;
 
+import jakarta.persistence.EntityManager;
+import kr.minigate.ordersystem.application.dto.CursorPage;
+import kr.minigate.ordersystem.application.dto.OrderExportCondition;
+import kr.minigate.ordersystem.application.dto.OrderItemRow;
 import kr.minigate.ordersystem.application.dto.OrderQuery;
+import kr.minigate.ordersystem.application.dto.PageCursor;
 import kr.minigate.ordersystem.domain.Order;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
 import kr.minigate.ordersystem.domain.repository.OrderRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
 public class OrderQueryServiceImpl implements OrderQueryService {
 
+    // IN 절 파라미터 수 제한을 넘지 않도록 아이템 로딩을 나눠 수행
+    private static final int FETCH_CHUNK_SIZE = 1000;
+
+    // 내보내기 시 한 번에 영속성 컨텍스트에 머무는 주문 수
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
     private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
 
-    public OrderQueryServiceImpl(OrderRepository orderRepository) {
+    public OrderQueryServiceImpl(OrderRepository orderRepository, EntityManager entityManager) {
         this.orderRepository = orderRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
-    public List<OrderQuery> getOrdersByMemberId(Long memberId) {
-        return orderRepository.findByMemberIdOrderByCreatedAtDesc(memberId)
-            .stream()
-            .map(OrderQuery::from)
-            .toList();
+    public CursorPage<OrderQuery> getOrdersByMemberId(Long memberId, String cursor, Integer size) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int pageSize = CursorPage.normalizeSize(size);
+        List<OrderQuery> orders = pageCursor == null
+            ? orderRepository.findLatestQueriesByMemberId(memberId, CursorPage.fetchLimit(pageSize))
+            : orderRepository.findQueriesOlderThanByMemberId(memberId, pageCursor.createdAt(), pageCursor.id(),
+                CursorPage.fetchLimit(pageSize));
+        return CursorPage.of(orders, pageSize, OrderQueryServiceImpl::cursorOf)
+            .mapContent(this::withOrderItems);
     }
 
     @Override
     public OrderQuery getOrder(Long id) {
-        Order order = orderRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다"));
-        return OrderQuery.from(order);
+        OrderQuery order = orderRepository.findQueryById(id)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 주문입니다"));
+        return withOrderItems(List.of(order)).get(0);
+    }
+
+    // 변경될 때마다 현재 시각이 기록되므로 가장 늦은 수정 시각이 응답 전체의 버전이 된다
+    @Override
+    public Optional<LocalDateTime> getOrderLastModified(Long id) {
+        return orderRepository.findUpdatedAtsById(id).stream()
+            .filter(Objects::nonNull)
+            .max(Comparator.naturalOrder());
+    }
+
+    @Override
+    public CursorPage<OrderQuery> getAllOrders(String cursor, Integer size) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int pageSize = CursorPage.normalizeSize(size);
+        List<OrderQuery> orders = pageCursor == null
+            ? orderRepository.findLatestQueries(CursorPage.fetchLimit(pageSize))
+            : orderRepository.findQueriesOlderThan(pageCursor.createdAt(), pageCursor.id(), CursorPage.fetchLimit(pageSize));
+        return CursorPage.of(orders, pageSize, OrderQueryServiceImpl::cursorOf)
+            .mapContent(this::withOrderItems);
     }
 
     @Override
-    public List<OrderQuery> getAllOrders() {
-        return orderRepository.findAllByOrderByCreatedAtDesc()
-            .stream()
+    public void exportOrders(OrderExportCondition condition, Consumer<OrderQuery> sink) {
+        try (Stream<Order> orders = orderRepository.streamForExport(
+                condition.status(), condition.from(), condition.to())) {
+            List<Order> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            orders.forEach(order -> {
+                chunk.add(order);
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    exportChunk(chunk, sink);
+                }
+            });
+            exportChunk(chunk, sink);
+        }
+    }
+
+    private void exportChunk(List<Order> chunk, Consumer<OrderQuery> sink) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        toOrderQueries(chunk).forEach(sink);
+        chunk.clear();
+        // 내보낸 엔티티를 분리해 메모리 사용량을 청크 크기로 고정한다
+        entityManager.clear();
+    }
+
+    private static PageCursor cursorOf(OrderQuery order) {
+        return new PageCursor(order.createdAt(), order.id());
+    }
+
+    // 주문 헤더 프로젝션에 아이템 행 프로젝션을 주문 ID 기준으로 붙인다
+    private List<OrderQuery> withOrderItems(List<OrderQuery> orders) {
+        List<Long> orderIds = orders.stream()
+            .map(OrderQuery::id)
+            .toList();
+        List<OrderItemRow> rows = new ArrayList<>();
+        for (int from = 0; from < orderIds.size(); from += FETCH_CHUNK_SIZE) {
+            rows.addAll(orderRepository.findOrderItemRows(
+                orderIds.subList(from, Math.min(from + FETCH_CHUNK_SIZE, orderIds.size()))));
+        }
+
+        Map<Long, List<OrderQuery.OrderItemQuery>> itemsByOrderId = rows.stream()
+            .collect(Collectors.groupingBy(OrderItemRow::orderId,
+                Collectors.mapping(OrderItemRow::toOrderItemQuery, Collectors.toList())));
+        return orders.stream()
+            .map(order -> order.withOrderItems(itemsByOrderId.getOrDefault(order.id(), List.of())))
+            .toList();
+    }
+
+    private List<OrderQuery> toOrderQueries(List<Order> orders) {
+        List<Long> orderIds = orders.stream()
+            .map(Order::getId)
+            .toList();
+        for (int from = 0; from < orderIds.size(); from += FETCH_CHUNK_SIZE) {
+            orderRepository.fetchOrderItems(orderIds.subList(from, Math.min(from + FETCH_CHUNK_SIZE, orderIds.size())));
+        }
+
+        return orders.stream()
             .map(OrderQuery::from)
             .toList();
     }
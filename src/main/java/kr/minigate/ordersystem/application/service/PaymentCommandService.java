@@ -7,6 +7,9 @@ import java.math.BigDecimal;
 
 public interface PaymentCommandService {
     PaymentQuery processPayment(PaymentCreateCommand command);
+    PaymentQuery requestPayment(PaymentCreateCommand command);
+    PaymentQuery completePayment(Long id, String transactionId);
+    PaymentQuery failPayment(Long id);
     PaymentQuery cancelPayment(Long id);
     PaymentQuery refundPayment(Long id, BigDecimal refundAmount);
     void deletePayment(Long id);
@@ -1,41 +1,52 @@
 package kr.minigate.ordersystem.application.service;
 
+import kr.minigate.ordersystem.application.dto.OrderQuery;
 import kr.minigate.ordersystem.application.dto.PaymentCreateCommand;
 import kr.minigate.ordersystem.application.dto.PaymentQuery;
+import kr.minigate.ordersystem.application.event.OrderEvent;
+import kr.minigate.ordersystem.application.event.PaymentEvent;
 import kr.minigate.ordersystem.domain.Order;
 import kr.minigate.ordersystem.domain.OrderStatus;
 import kr.minigate.ordersystem.domain.Payment;
 import kr.minigate.ordersystem.domain.PaymentStatus;
 import kr.minigate.ordersystem.domain.Product;
+import kr.minigate.ordersystem.domain.exception.DuplicatePaymentException;
+import kr.minigate.ordersystem.domain.exception.InvalidRequestException;
+import kr.minigate.ordersystem.domain.exception.InvalidStateException;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
 import kr.minigate.ordersystem.domain.repository.OrderRepository;
 import kr.minigate.ordersystem.domain.repository.PaymentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 
+@Slf4j
 @Service
 @Transactional
 public class PaymentCommandServiceImpl implements PaymentCommandService {
 
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
+    private final StockService stockService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PaymentCommandServiceImpl(PaymentRepository paymentRepository,
-                                   OrderRepository orderRepository) {
+                                   OrderRepository orderRepository,
+                                   StockService stockService,
+                                   ApplicationEventPublisher eventPublisher) {
         this.paymentRepository = paymentRepository;
         this.orderRepository = orderRepository;
+        this.stockService = stockService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public PaymentQuery processPayment(PaymentCreateCommand command) {
-        Order order = orderRepository.findById(command.orderId())
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다"));
-
-        // 중복 결제 방지
-        if (paymentRepository.findByOrderId(order.getId()).isPresent()) {
-            throw new IllegalArgumentException("이미 결제된 주문입니다");
-        }
+        Order order = findPayableOrder(command.orderId());
 
         String transactionId = Payment.generateTransactionId();
 
@@ -46,53 +57,122 @@ public class PaymentCommandServiceImpl implements PaymentCommandService {
             .transactionId(transactionId)
             .build();
 
-        Payment savedPayment = paymentRepository.save(payment);
-        return PaymentQuery.from(savedPayment);
+        return publish(PaymentEvent.Type.COMPLETED, PaymentQuery.from(saveUnique(payment)));
+    }
+
+    @Override
+    public PaymentQuery requestPayment(PaymentCreateCommand command) {
+        Order order = findPayableOrder(command.orderId());
+
+        Payment savedPayment = saveUnique(Payment.createPending(order, command.paymentMethod()));
+        // 게이트웨이 호출은 커밋 이후 결제 작업자가 처리
+        return publish(PaymentEvent.Type.REQUESTED, PaymentQuery.from(savedPayment));
+    }
+
+    @Override
+    public PaymentQuery completePayment(Long id, String transactionId) {
+        Payment payment = paymentRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 결제입니다"));
+
+        // 승인 대기 중 취소된 결제는 그대로 둔다. 반영되지 않은 승인은 결제 작업자가 게이트웨이에서 되돌린다
+        if (!payment.isPending()) {
+            log.info("대기 상태가 아닌 결제 승인 결과 무시: paymentId={}, status={}", id, payment.getStatus());
+            return PaymentQuery.from(payment);
+        }
+        payment.complete(transactionId);
+        return publish(PaymentEvent.Type.COMPLETED, PaymentQuery.from(payment));
+    }
+
+    @Override
+    public PaymentQuery failPayment(Long id) {
+        Payment payment = paymentRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 결제입니다"));
+
+        if (!payment.isPending()) {
+            log.info("대기 상태가 아닌 결제 거절 결과 무시: paymentId={}, status={}", id, payment.getStatus());
+            return PaymentQuery.from(payment);
+        }
+        payment.fail();
+
+        // 결제가 거절된 주문은 취소하고 선점한 재고를 돌려놓는다
+        Order order = payment.getOrder();
+        if (order.getStatus().canTransitionTo(OrderStatus.CANCELLED)) {
+            order.cancel();
+            order.restoreStock((product, quantity) -> stockService.increaseStock(product.getId(), quantity));
+            eventPublisher.publishEvent(new OrderEvent(OrderEvent.Type.CANCELLED, OrderQuery.from(order)));
+        }
+
+        return publish(PaymentEvent.Type.FAILED, PaymentQuery.from(payment));
     }
 
     @Override
     public PaymentQuery cancelPayment(Long id) {
         Payment payment = paymentRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다"));
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 결제입니다"));
 
         // 주문 상태 확인
         Order order = payment.getOrder();
         if (!order.canCancelPayment()) {
-            throw new IllegalStateException("배송 중이거나 배송 완료된 주문의 결제는 취소할 수 없습니다");
+            throw new InvalidStateException("배송 중이거나 배송 완료된 주문의 결제는 취소할 수 없습니다");
         }
 
         payment.cancel();
 
-        // 재고 복원
-        order.restoreStock();
+        // 재고 복원 (조건 없는 원자적 증가로 동시 주문의 차감분을 덮어쓰지 않는다)
+        order.restoreStock((product, quantity) -> stockService.increaseStock(product.getId(), quantity));
 
-        return PaymentQuery.from(payment);
+        return publish(PaymentEvent.Type.CANCELLED, PaymentQuery.from(payment));
     }
 
     @Override
     public PaymentQuery refundPayment(Long id, BigDecimal refundAmount) {
         Payment payment = paymentRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다"));
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 결제입니다"));
 
         // 환불 가능 상태 확인
-        if (payment.getStatus() != PaymentStatus.COMPLETED) {
-            throw new IllegalStateException("완료된 결제만 환불 가능합니다");
+        if (!payment.getStatus().canTransitionTo(PaymentStatus.REFUNDED)) {
+            throw new InvalidStateException("완료된 결제만 환불 가능합니다");
         }
 
         // 환불 금액 검증
         if (refundAmount.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("환불 금액은 0보다 커야 합니다");
+            throw new InvalidRequestException("환불 금액은 0보다 커야 합니다");
         }
 
         payment.refund(refundAmount);
-        return PaymentQuery.from(payment);
+        return publish(PaymentEvent.Type.REFUNDED, PaymentQuery.from(payment));
     }
 
     @Override
     public void deletePayment(Long id) {
         Payment payment = paymentRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다"));
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 결제입니다"));
 
         paymentRepository.delete(payment);
     }
-}
\ No newline at end of file
+
+    private PaymentQuery publish(PaymentEvent.Type type, PaymentQuery paymentQuery) {
+        eventPublisher.publishEvent(new PaymentEvent(type, paymentQuery));
+        return paymentQuery;
+    }
+
+    private Order findPayableOrder(Long orderId) {
+        Order order = orderRepository.findById(orderId)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 주문입니다"));
+
+        // 중복 결제 방지
+        if (paymentRepository.findByOrderId(order.getId()).isPresent()) {
+            throw new DuplicatePaymentException("이미 결제된 주문입니다");
+        }
+        return order;
+    }
+
+    private Payment saveUnique(Payment payment) {
+        try {
+            // 동시에 들어온 결제는 order_id 유니크 제약으로 걸러낸다
+            return paymentRepository.saveAndFlush(payment);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicatePaymentException("이미 결제된 주문입니다");
+        }
+    }
+}
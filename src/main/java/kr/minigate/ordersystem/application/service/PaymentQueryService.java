@@ -1,11 +1,14 @@
 package kr.minigate.ordersystem.application.service;
 
+import kr.minigate.ordersystem.application.dto.CursorPage;
 import kr.minigate.ordersystem.application.dto.PaymentQuery;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 public interface PaymentQueryService {
     PaymentQuery getPaymentByOrderId(Long orderId);
     PaymentQuery getPayment(Long id);
-    List<PaymentQuery> getAllPayments();
+    Optional<LocalDateTime> getPaymentLastModified(Long id);
+    CursorPage<PaymentQuery> getAllPayments(String cursor, Integer size);
 }
\ No newline at end of file
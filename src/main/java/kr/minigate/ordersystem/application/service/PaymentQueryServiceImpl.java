@@ -1,12 +1,16 @@
 package kr.minigate.ordersystem.application.service;
 
+import kr.minigate.ordersystem.application.dto.CursorPage;
+import kr.minigate.ordersystem.application.dto.PageCursor;
 import kr.minigate.ordersystem.application.dto.PaymentQuery;
-import kr.minigate.ordersystem.domain.Payment;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
 import kr.minigate.ordersystem.domain.repository.PaymentRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @Transactional(readOnly = true)
@@ -20,23 +24,28 @@ public class PaymentQueryServiceImpl implements PaymentQueryService {
 
     @Override
     public PaymentQuery getPaymentByOrderId(Long orderId) {
-        Payment payment = paymentRepository.findByOrderId(orderId)
-            .orElseThrow(() -> new IllegalArgumentException("해당 주문의 결제 정보가 없습니다"));
-        return PaymentQuery.from(payment);
+        return paymentRepository.findQueryByOrderId(orderId)
+            .orElseThrow(() -> new NotFoundException("해당 주문의 결제 정보가 없습니다"));
     }
 
     @Override
     public PaymentQuery getPayment(Long id) {
-        Payment payment = paymentRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다"));
-        return PaymentQuery.from(payment);
+        return paymentRepository.findQueryById(id)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 결제입니다"));
     }
 
     @Override
-    public List<PaymentQuery> getAllPayments() {
-        return paymentRepository.findAllByOrderByCreatedAtDesc()
-            .stream()
-            .map(PaymentQuery::from)
-            .toList();
+    public Optional<LocalDateTime> getPaymentLastModified(Long id) {
+        return paymentRepository.findUpdatedAtById(id);
+    }
+
+    @Override
+    public CursorPage<PaymentQuery> getAllPayments(String cursor, Integer size) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int pageSize = CursorPage.normalizeSize(size);
+        List<PaymentQuery> payments = pageCursor == null
+            ? paymentRepository.findLatestQueries(CursorPage.fetchLimit(pageSize))
+            : paymentRepository.findQueriesOlderThan(pageCursor.createdAt(), pageCursor.id(), CursorPage.fetchLimit(pageSize));
+        return CursorPage.of(payments, pageSize, payment -> new PageCursor(payment.createdAt(), payment.id()));
     }
 }
\ No newline at end of file
@@ -2,7 +2,17 @@ package kr.minigate.ordersystem.application.service;
 
 import kr.minigate.ordersystem.application.dto.ProductCreateCommand;
 import kr.minigate.ordersystem.application.dto.ProductQuery;
+import kr.minigate.ordersystem.application.dto.ProductStockAdjustCommand;
+import kr.minigate.ordersystem.application.dto.ProductUpsertCommand;
+
+import java.util.List;
 
 public interface ProductCommandService {
     ProductQuery createProduct(ProductCreateCommand command);
-}
\ No newline at end of file
+
+    // 한 트랜잭션으로 등록/수정하며, 하나라도 실패하면 전체를 되돌린다. 결과는 요청 순서와 같다
+    List<ProductQuery> upsertProducts(List<ProductUpsertCommand> commands);
+
+    // 한 트랜잭션으로 재고를 증감하며, 하나라도 실패하면 전체를 되돌린다
+    void adjustStocks(List<ProductStockAdjustCommand> commands);
+}
@@ -2,19 +2,43 @@ package kr.minigate.ordersystem.application.service;
 
 import kr.minigate.ordersystem.application.dto.ProductCreateCommand;
 import kr.minigate.ordersystem.application.dto.ProductQuery;
+import kr.minigate.ordersystem.application.dto.ProductStockAdjustCommand;
+import kr.minigate.ordersystem.application.dto.ProductStockRow;
+import kr.minigate.ordersystem.application.dto.ProductUpsertCommand;
+import kr.minigate.ordersystem.application.event.ProductBatchEvent;
+import kr.minigate.ordersystem.application.event.ProductEvent;
 import kr.minigate.ordersystem.domain.Product;
+import kr.minigate.ordersystem.domain.exception.InsufficientStockException;
+import kr.minigate.ordersystem.domain.exception.InvalidRequestException;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
+import kr.minigate.ordersystem.domain.repository.ProductBulkRepository.ProductUpdate;
 import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @Transactional
 public class ProductCommandServiceImpl implements ProductCommandService {
 
     private final ProductRepository productRepository;
+    private final StockService stockService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ProductCommandServiceImpl(ProductRepository productRepository) {
+    public ProductCommandServiceImpl(ProductRepository productRepository, StockService stockService,
+                                     ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
+        this.stockService = stockService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -27,6 +51,72 @@ public class ProductCommandServiceImpl implements ProductCommandService {
             .build();
 
         Product savedProduct = productRepository.save(product);
-        return ProductQuery.from(savedProduct);
+        ProductQuery productQuery = ProductQuery.from(savedProduct);
+        eventPublisher.publishEvent(new ProductBatchEvent(new ProductEvent(ProductEvent.Type.CREATED, productQuery)));
+        return productQuery;
+    }
+
+    // 새 상품은 saveAll(배치 INSERT), 기존 상품은 엔티티를 읽지 않고 JDBC 배치 UPDATE로 덮어쓴다
+    @Override
+    public List<ProductQuery> upsertProducts(List<ProductUpsertCommand> commands) {
+        List<Product> created = new ArrayList<>();
+        List<ProductUpdate> updates = new ArrayList<>();
+        for (ProductUpsertCommand command : commands) {
+            if (command.id() == null) {
+                created.add(Product.builder()
+                    .name(command.name())
+                    .description(command.description())
+                    .price(command.price())
+                    .stock(command.stock())
+                    .build());
+                continue;
+            }
+            if (stockService.isLedgerManaged(command.id())) {
+                throw new InvalidRequestException("재고 원장에서 관리하는 상품은 재고 증감으로만 바꿀 수 있습니다. 상품 ID: " + command.id());
+            }
+            updates.add(new ProductUpdate(command.id(), command.name(), command.description(), command.price(),
+                command.stock()));
+        }
+
+        productRepository.saveAll(created);
+        List<Long> missing = productRepository.updateProducts(updates);
+        if (!missing.isEmpty()) {
+            throw new NotFoundException("상품을 찾을 수 없습니다. ID: " + missing);
+        }
+        Map<Long, Product> updated = productRepository.findAllById(updates.stream().map(ProductUpdate::id).toList())
+            .stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 상품마다 이벤트를 발행하지 않고 한 번에 발행해 카탈로그 교체와 인덱스 갱신을 한 번으로 끝낸다
+        Iterator<Product> createdInOrder = created.iterator();
+        List<ProductEvent> events = new ArrayList<>(commands.size());
+        for (ProductUpsertCommand command : commands) {
+            events.add(command.id() == null
+                ? new ProductEvent(ProductEvent.Type.CREATED, ProductQuery.from(createdInOrder.next()))
+                : new ProductEvent(ProductEvent.Type.UPDATED, ProductQuery.from(updated.get(command.id()))));
+        }
+        ProductBatchEvent batch = new ProductBatchEvent(events);
+        eventPublisher.publishEvent(batch);
+        return batch.products();
+    }
+
+    @Override
+    public void adjustStocks(List<ProductStockAdjustCommand> commands) {
+        // 같은 상품의 증감은 합산해 한 번에 반영한다
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        commands.forEach(command -> deltas.merge(command.productId(), command.delta(), Integer::sum));
+
+        List<Long> failed = stockService.adjustStocks(deltas);
+        if (failed.isEmpty()) {
+            return;
+        }
+        Set<Long> existing = productRepository.findStockRows(failed).stream()
+            .map(ProductStockRow::id)
+            .collect(Collectors.toSet());
+        List<Long> missing = failed.stream().filter(id -> !existing.contains(id)).toList();
+        if (!missing.isEmpty()) {
+            throw new NotFoundException("상품을 찾을 수 없습니다. ID: " + missing);
+        }
+        throw new InsufficientStockException("재고가 부족합니다. 상품 ID: " + failed);
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,12 @@
 package kr.minigate.ordersystem.application.service;
 
+import kr.minigate.ordersystem.application.dto.CursorPage;
 import kr.minigate.ordersystem.application.dto.ProductQuery;
 
 import java.util.List;
 
 public interface ProductQueryService {
-    List<ProductQuery> getAllProducts();
+    CursorPage<ProductQuery> getAllProducts(String cursor, Integer size);
     ProductQuery getProduct(Long id);
+    List<ProductQuery> searchProducts(String keyword, Integer size);
 }
\ No newline at end of file
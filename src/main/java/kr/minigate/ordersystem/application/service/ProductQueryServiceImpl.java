@@ -1,35 +1,73 @@
 package kr.minigate.ordersystem.application.service;
 
+import kr.minigate.ordersystem.application.dto.CursorPage;
+import kr.minigate.ordersystem.application.dto.PageCursor;
 import kr.minigate.ordersystem.application.dto.ProductQuery;
 import kr.minigate.ordersystem.domain.Product;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
 import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import kr.minigate.ordersystem.infrastructure.catalog.ProductCatalog;
+import kr.minigate.ordersystem.infrastructure.search.ProductSearchIndex;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class ProductQueryServiceImpl implements ProductQueryService {
 
     private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductCatalog productCatalog;
 
-    public ProductQueryServiceImpl(ProductRepository productRepository) {
+    public ProductQueryServiceImpl(ProductRepository productRepository, ProductSearchIndex productSearchIndex,
+                                   ProductCatalog productCatalog) {
         this.productRepository = productRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.productCatalog = productCatalog;
     }
 
+    // 목록과 단건 조회는 메모리 카탈로그에서 읽으므로 트랜잭션(커넥션)을 열지 않는다
     @Override
-    public List<ProductQuery> getAllProducts() {
-        return productRepository.findAll()
-            .stream()
-            .map(ProductQuery::from)
-            .toList();
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CursorPage<ProductQuery> getAllProducts(String cursor, Integer size) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int pageSize = CursorPage.normalizeSize(size);
+        List<ProductQuery> products = pageCursor == null
+            ? productCatalog.findLatest(pageSize + 1)
+            : productCatalog.findOlderThan(pageCursor.createdAt(), pageCursor.id(), pageSize + 1);
+        return CursorPage.of(products, pageSize, product -> new PageCursor(product.createdAt(), product.id()));
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProductQuery getProduct(Long id) {
-        Product product = productRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다"));
-        return ProductQuery.from(product);
+        // 카탈로그에 반영되기 전인 상품만 DB에서 찾는다
+        return productCatalog.find(id).orElseGet(() -> productRepository.findById(id)
+            .map(ProductQuery::from)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 상품입니다")));
+    }
+
+    @Override
+    public List<ProductQuery> searchProducts(String keyword, Integer size) {
+        List<Long> rankedIds = productSearchIndex.search(keyword, CursorPage.normalizeSize(size));
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 검색 점수 순서를 유지한다 (인덱스 반영 전에 삭제된 상품은 제외)
+        Map<Long, Product> products = productRepository.findAllById(rankedIds).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return rankedIds.stream()
+            .map(products::get)
+            .filter(Objects::nonNull)
+            .map(ProductQuery::from)
+            .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package kr.minigate.ordersystem.application.service;
+
+import java.util.List;
+import java.util.Map;
+
+public interface StockService {
+    boolean decreaseStock(Long productId, int quantity);
+    void increaseStock(Long productId, int quantity);
+
+    // 상품별 재고 증감을 한 번에 반영하며, 존재하지 않거나 재고가 음수가 되어 반영하지 못한 상품 ID를 반환한다
+    List<Long> adjustStocks(Map<Long, Integer> deltas);
+
+    // 재고를 메모리 원장에서 관리하는 상품인지. 이런 상품의 재고는 DB 값을 직접 덮어쓰면 안 된다
+    boolean isLedgerManaged(Long productId);
+}
@@ -0,0 +1,93 @@
+package kr.minigate.ordersystem.application.service;
+
+import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import kr.minigate.ordersystem.infrastructure.stock.HotStockLedger;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@Transactional
+public class StockServiceImpl implements StockService {
+
+    private final ProductRepository productRepository;
+    private final HotStockLedger hotStockLedger;
+
+    public StockServiceImpl(ProductRepository productRepository, Optional<HotStockLedger> hotStockLedger) {
+        this.productRepository = productRepository;
+        this.hotStockLedger = hotStockLedger.orElse(null);
+    }
+
+    @Override
+    public boolean decreaseStock(Long productId, int quantity) {
+        if (!isHot(productId)) {
+            return productRepository.decreaseStock(productId, quantity) == 1;
+        }
+
+        if (!hotStockLedger.tryDecrease(productId, quantity)) {
+            return false;
+        }
+        // 트랜잭션이 롤백되면 메모리에서 선점한 재고를 되돌린다
+        onRollback(() -> hotStockLedger.increase(productId, quantity));
+        return true;
+    }
+
+    @Override
+    public void increaseStock(Long productId, int quantity) {
+        if (!isHot(productId)) {
+            productRepository.increaseStock(productId, quantity);
+            return;
+        }
+
+        hotStockLedger.increase(productId, quantity);
+        onRollback(() -> hotStockLedger.increase(productId, -quantity));
+    }
+
+    @Override
+    public List<Long> adjustStocks(Map<Long, Integer> deltas) {
+        List<Long> failed = new ArrayList<>();
+        Map<Long, Integer> stored = new LinkedHashMap<>();
+        deltas.forEach((productId, delta) -> {
+            if (!isHot(productId)) {
+                stored.put(productId, delta);
+            } else if (delta >= 0) {
+                increaseStock(productId, delta);
+            } else if (!decreaseStock(productId, -delta)) {
+                failed.add(productId);
+            }
+        });
+        // 원장에 없는 상품은 JDBC 배치 UPDATE 한 번으로 반영한다
+        failed.addAll(productRepository.adjustStocks(stored));
+        return failed;
+    }
+
+    @Override
+    public boolean isLedgerManaged(Long productId) {
+        return isHot(productId);
+    }
+
+    private boolean isHot(Long productId) {
+        return hotStockLedger != null && hotStockLedger.isHot(productId);
+    }
+
+    private void onRollback(Runnable compensation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    compensation.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package kr.minigate.ordersystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ordersystem.conflict-retry")
+public record ConflictRetryProperties(
+    @DefaultValue("3") int maxAttempts,
+    @DefaultValue("10ms") Duration initialBackoff,
+    @DefaultValue("200ms") Duration maxBackoff,
+    @DefaultValue("2.0") double multiplier
+) {
+}
@@ -0,0 +1,14 @@
+package kr.minigate.ordersystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ordersystem.idempotency")
+public record IdempotencyProperties(
+    @DefaultValue("10000") int cacheSize,
+    @DefaultValue("10m") Duration cacheTtl,
+    @DefaultValue("24h") Duration retention
+) {
+}
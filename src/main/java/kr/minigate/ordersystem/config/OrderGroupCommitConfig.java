@@ -0,0 +1,27 @@
+package kr.minigate.ordersystem.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.minigate.ordersystem.application.service.OrderCommandService;
+import kr.minigate.ordersystem.infrastructure.order.OrderGroupCommitter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableConfigurationProperties(OrderGroupCommitProperties.class)
+@ConditionalOnProperty(prefix = "ordersystem.order-group-commit", name = "enabled", havingValue = "true")
+public class OrderGroupCommitConfig {
+
+    // 트랜잭션 타임아웃을 정하지 않았으면 묶음 하나가 30초 안에 끝난다고 보고 호출자의 대기 시간을 정한다
+    @Bean
+    public OrderGroupCommitter orderGroupCommitter(OrderCommandService orderCommandService,
+                                                   OrderGroupCommitProperties properties,
+                                                   @Value("${spring.transaction.default-timeout:30s}") Duration transactionTimeout,
+                                                   MeterRegistry meterRegistry) {
+        return new OrderGroupCommitter(orderCommandService, properties, transactionTimeout, meterRegistry);
+    }
+}
@@ -0,0 +1,16 @@
+package kr.minigate.ordersystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ordersystem.order-group-commit")
+public record OrderGroupCommitProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("5ms") Duration maxWait,
+    @DefaultValue("64") int maxBatchSize,
+    @DefaultValue("1") int committers,
+    @DefaultValue("10000") int queueCapacity
+) {
+}
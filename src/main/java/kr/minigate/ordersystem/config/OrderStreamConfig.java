@@ -0,0 +1,9 @@
+package kr.minigate.ordersystem.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(OrderStreamProperties.class)
+public class OrderStreamConfig {
+}
@@ -0,0 +1,21 @@
+package kr.minigate.ordersystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ordersystem.order-stream")
+public record OrderStreamProperties(
+    @DefaultValue("64") int bufferSize,
+    @DefaultValue("DROP_OLDEST") DropPolicy dropPolicy,
+    @DefaultValue("30m") Duration timeout,
+    @DefaultValue("10000") int maxSubscribers
+) {
+    // 구독자 버퍼가 가득 찼을 때의 처리 방식
+    public enum DropPolicy {
+        DROP_OLDEST,
+        DROP_NEWEST,
+        DISCONNECT
+    }
+}
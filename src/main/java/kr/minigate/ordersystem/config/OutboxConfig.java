@@ -0,0 +1,43 @@
+package kr.minigate.ordersystem.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.minigate.ordersystem.infrastructure.outbox.FileOutboxPublisher;
+import kr.minigate.ordersystem.infrastructure.outbox.InProcessOutboxPublisher;
+import kr.minigate.ordersystem.infrastructure.outbox.OutboxEventRepository;
+import kr.minigate.ordersystem.infrastructure.outbox.OutboxPublisher;
+import kr.minigate.ordersystem.infrastructure.outbox.OutboxRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    // 메시지 브로커 발행기 빈을 등록하면 로컬용 발행기 대신 사용된다
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxPublisher outboxPublisher(OutboxProperties properties,
+                                           ApplicationEventPublisher eventPublisher,
+                                           ObjectMapper objectMapper) {
+        return switch (properties.publisher()) {
+            case IN_PROCESS -> new InProcessOutboxPublisher(eventPublisher);
+            case FILE -> new FileOutboxPublisher(properties.file(), objectMapper);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "ordersystem.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(OutboxEventRepository outboxEventRepository,
+                                   OutboxPublisher outboxPublisher,
+                                   PlatformTransactionManager transactionManager,
+                                   OutboxProperties properties) {
+        return new OutboxRelay(outboxEventRepository, outboxPublisher, new TransactionTemplate(transactionManager),
+            properties);
+    }
+}
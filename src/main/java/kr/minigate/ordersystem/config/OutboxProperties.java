@@ -0,0 +1,21 @@
+package kr.minigate.ordersystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ordersystem.outbox")
+public record OutboxProperties(
+    @DefaultValue("true") boolean relayEnabled,
+    @DefaultValue("100") int batchSize,
+    @DefaultValue("7d") Duration retention,
+    @DefaultValue("in-process") Publisher publisher,
+    @DefaultValue("build/outbox/events.ndjson") Path file
+) {
+    public enum Publisher {
+        IN_PROCESS,
+        FILE
+    }
+}
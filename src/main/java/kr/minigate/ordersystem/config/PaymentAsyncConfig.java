@@ -0,0 +1,38 @@
+package kr.minigate.ordersystem.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.minigate.ordersystem.application.service.PaymentCommandService;
+import kr.minigate.ordersystem.application.service.PaymentQueryService;
+import kr.minigate.ordersystem.domain.repository.PaymentRepository;
+import kr.minigate.ordersystem.infrastructure.payment.PaymentGateway;
+import kr.minigate.ordersystem.infrastructure.payment.PaymentWorker;
+import kr.minigate.ordersystem.infrastructure.payment.StubPaymentGateway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PaymentAsyncProperties.class)
+@ConditionalOnProperty(prefix = "ordersystem.payment.async", name = "enabled", havingValue = "true")
+public class PaymentAsyncConfig {
+
+    // 실제 게이트웨이 빈을 등록하면 스텁 대신 사용된다
+    @Bean
+    @ConditionalOnMissingBean
+    public PaymentGateway paymentGateway(PaymentAsyncProperties properties) {
+        return new StubPaymentGateway(properties.gatewayStubLatency());
+    }
+
+    @Bean
+    public PaymentWorker paymentWorker(PaymentGateway paymentGateway,
+                                       PaymentCommandService paymentCommandService,
+                                       PaymentQueryService paymentQueryService,
+                                       PaymentRepository paymentRepository,
+                                       PaymentAsyncProperties properties,
+                                       MeterRegistry meterRegistry) {
+        return new PaymentWorker(paymentGateway, paymentCommandService, paymentQueryService, paymentRepository,
+            properties, meterRegistry);
+    }
+}
@@ -0,0 +1,16 @@
+package kr.minigate.ordersystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ordersystem.payment.async")
+public record PaymentAsyncProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("16") int workers,
+    @DefaultValue("1000") int queueCapacity,
+    @DefaultValue("1m") Duration staleAfter,
+    @DefaultValue("100ms") Duration gatewayStubLatency
+) {
+}
@@ -0,0 +1,10 @@
+package kr.minigate.ordersystem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 카탈로그 재고 갱신, 아웃박스 릴레이, 결제 재처리, 멱등 키 정리 등 @Scheduled 작업 전체에 적용된다
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,23 @@
+package kr.minigate.ordersystem.config;
+
+import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import kr.minigate.ordersystem.infrastructure.stock.HotStockLedger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableConfigurationProperties(StockLedgerProperties.class)
+@ConditionalOnProperty(prefix = "ordersystem.stock.ledger", name = "enabled", havingValue = "true")
+public class StockLedgerConfig {
+
+    @Bean
+    public HotStockLedger hotStockLedger(ProductRepository productRepository,
+                                         PlatformTransactionManager transactionManager,
+                                         StockLedgerProperties properties) {
+        return new HotStockLedger(productRepository, new TransactionTemplate(transactionManager), properties);
+    }
+}
@@ -0,0 +1,16 @@
+package kr.minigate.ordersystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "ordersystem.stock.ledger")
+public record StockLedgerProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue Set<Long> hotProductIds,
+    @DefaultValue("8") int stripes,
+    @DefaultValue("1s") Duration flushInterval
+) {
+}
@@ -0,0 +1,61 @@
+package kr.minigate.ordersystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import kr.minigate.ordersystem.infrastructure.web.ConcurrencyLimitFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.regex.Pattern;
+
+@Configuration
+@EnableConfigurationProperties(WebConcurrencyProperties.class)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class WebConcurrencyConfig {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+    // 메모리 카탈로그에서 읽는 상품 목록/단건 조회 (검색은 결과를 DB에서 읽으므로 제한 대상)
+    private static final Pattern CATALOG_READ_PATH = Pattern.compile("/api/products(/\\d+)?/?");
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(WebConcurrencyProperties properties,
+                                                                                 DataSource dataSource,
+                                                                                 MeterRegistry meterRegistry) {
+        int limit = properties.maxConcurrentRequests() > 0
+            ? properties.maxConcurrentRequests()
+            : maximumPoolSize(dataSource);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limit, properties.acquireTimeout(),
+            WebConcurrencyConfig::isCatalogRead);
+        Gauge.builder("ordersystem.web.concurrency.available", filter, ConcurrencyLimitFilter::getAvailablePermits)
+            .register(meterRegistry);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    private static boolean isCatalogRead(HttpServletRequest request) {
+        return "GET".equals(request.getMethod())
+            && CATALOG_READ_PATH.matcher(request.getRequestURI().substring(request.getContextPath().length())).matches();
+    }
+
+    // 별도 설정이 없으면 Hikari 최대 커넥션 수만큼만 동시에 처리
+    private static int maximumPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            // 기본값 사용
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
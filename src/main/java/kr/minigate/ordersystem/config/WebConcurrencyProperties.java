@@ -0,0 +1,13 @@
+package kr.minigate.ordersystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ordersystem.web.concurrency")
+public record WebConcurrencyProperties(
+    @DefaultValue("0") int maxConcurrentRequests,
+    @DefaultValue("2s") Duration acquireTimeout
+) {
+}
@@ -1,6 +1,7 @@
 package kr.minigate.ordersystem.domain;
 
 import jakarta.persistence.*;
+import kr.minigate.ordersystem.domain.exception.InvalidStateException;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,15 +9,20 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.ObjIntConsumer;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_orders_member_id_created_at_id", columnList = "member_id, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,6 +39,10 @@ public class Order extends BaseEntity {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> orderItems;
 
+    // 상태 일괄 변경 쿼리도 버전을 함께 올린다
+    @Version
+    private Long version;
+
     @Builder
     public Order(Member member, BigDecimal totalAmount) {
         this.member = member;
@@ -41,16 +51,26 @@ public class Order extends BaseEntity {
     }
 
     public void updateStatus(OrderStatus status) {
+        if (!this.status.canTransitionTo(status)) {
+            throw new InvalidStateException(transitionErrorMessage(this.status, status));
+        }
         this.status = status;
     }
 
     public void cancel() {
-        if (this.status == OrderStatus.SHIPPED || this.status == OrderStatus.DELIVERED) {
-            throw new IllegalStateException("이미 배송된 주문은 취소할 수 없습니다");
+        if (this.status == OrderStatus.CANCELLED) {
+            throw new InvalidStateException("이미 취소된 주문입니다");
+        }
+        if (!this.status.canTransitionTo(OrderStatus.CANCELLED)) {
+            throw new InvalidStateException("이미 배송된 주문은 취소할 수 없습니다");
         }
         this.status = OrderStatus.CANCELLED;
     }
 
+    public static String transitionErrorMessage(OrderStatus from, OrderStatus to) {
+        return "주문 상태를 " + from.getDescription() + "에서 " + to.getDescription() + "(으)로 바꿀 수 없습니다";
+    }
+
     public void setOrderItems(List<OrderItem> orderItems) {
         this.orderItems = orderItems;
     }
@@ -77,16 +97,15 @@ public class Order extends BaseEntity {
         orderItems.forEach(this::addOrderItem);
     }
 
+    // 배송이 시작되지 않은 주문 (이미 취소된 주문 포함)
     public boolean canCancelPayment() {
-        return this.status != OrderStatus.SHIPPED && this.status != OrderStatus.DELIVERED;
+        return this.status == OrderStatus.CANCELLED || this.status.canTransitionTo(OrderStatus.CANCELLED);
     }
 
-    public void restoreStock() {
+    public void restoreStock(ObjIntConsumer<Product> stockRestorer) {
         if (this.orderItems != null) {
-            this.orderItems.forEach(orderItem -> {
-                Product product = orderItem.getProduct();
-                product.increaseStock(orderItem.getQuantity());
-            });
+            this.orderItems.forEach(orderItem ->
+                stockRestorer.accept(orderItem.getProduct(), orderItem.getQuantity()));
         }
     }
 
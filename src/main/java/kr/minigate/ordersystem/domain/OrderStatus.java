@@ -1,11 +1,19 @@
 package kr.minigate.ordersystem.domain;
 
+import java.util.Set;
+
 public enum OrderStatus {
     CONFIRMED("주문확정"),
     SHIPPED("배송중"),
     DELIVERED("배송완료"),
     CANCELLED("주문취소");
 
+    // 배송을 시작하면 취소할 수 없고, 배송완료와 주문취소에서는 더 바뀌지 않는다
+    private static final StatusTransitions<OrderStatus> TRANSITIONS = StatusTransitions.builder(OrderStatus.class)
+        .allow(CONFIRMED, SHIPPED, CANCELLED)
+        .allow(SHIPPED, DELIVERED)
+        .build();
+
     private final String description;
 
     OrderStatus(String description) {
@@ -15,4 +23,13 @@ public enum OrderStatus {
     public String getDescription() {
         return description;
     }
-}
\ No newline at end of file
+
+    public boolean canTransitionTo(OrderStatus target) {
+        return TRANSITIONS.allows(this, target);
+    }
+
+    // target으로 바꿀 수 있는 상태들 (일괄 전이 UPDATE의 조건)
+    public static Set<OrderStatus> sourcesOf(OrderStatus target) {
+        return TRANSITIONS.sourcesOf(target);
+    }
+}
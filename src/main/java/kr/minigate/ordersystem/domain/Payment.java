@@ -1,6 +1,8 @@
 package kr.minigate.ordersystem.domain;
 
 import jakarta.persistence.*;
+import kr.minigate.ordersystem.domain.exception.InvalidRequestException;
+import kr.minigate.ordersystem.domain.exception.InvalidStateException;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,13 +11,16 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+    @Index(name = "idx_payments_created_at_id", columnList = "created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Payment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -36,6 +41,9 @@ public class Payment extends BaseEntity {
     @Column(unique = true)
     private String transactionId;
 
+    @Version
+    private Long version;
+
     @Builder
     public Payment(Order order, BigDecimal amount, PaymentMethod paymentMethod, String transactionId) {
         this.order = order;
@@ -45,19 +53,52 @@ public class Payment extends BaseEntity {
         this.status = PaymentStatus.COMPLETED;
     }
 
+    // 비동기 결제: 게이트웨이 승인 전까지 거래 ID 없이 대기 상태로 둔다
+    public static Payment createPending(Order order, PaymentMethod paymentMethod) {
+        Payment payment = Payment.builder()
+            .order(order)
+            .amount(order.getTotalAmount())
+            .paymentMethod(paymentMethod)
+            .build();
+        payment.status = PaymentStatus.PENDING;
+        return payment;
+    }
+
+    public void complete(String transactionId) {
+        if (!this.status.canTransitionTo(PaymentStatus.COMPLETED)) {
+            throw new InvalidStateException("대기 중인 결제만 승인할 수 있습니다");
+        }
+        this.transactionId = transactionId;
+        this.status = PaymentStatus.COMPLETED;
+    }
+
+    public void fail() {
+        if (!this.status.canTransitionTo(PaymentStatus.FAILED)) {
+            throw new InvalidStateException("대기 중인 결제만 실패 처리할 수 있습니다");
+        }
+        this.status = PaymentStatus.FAILED;
+    }
+
+    public boolean isPending() {
+        return this.status == PaymentStatus.PENDING;
+    }
+
     public void cancel() {
-        if (this.status == PaymentStatus.CANCELLED || this.status == PaymentStatus.REFUNDED) {
-            throw new IllegalStateException("이미 취소되거나 환불된 결제입니다");
+        if (this.status == PaymentStatus.FAILED) {
+            throw new InvalidStateException("실패한 결제는 취소할 수 없습니다");
+        }
+        if (!this.status.canTransitionTo(PaymentStatus.CANCELLED)) {
+            throw new InvalidStateException("이미 취소되거나 환불된 결제입니다");
         }
         this.status = PaymentStatus.CANCELLED;
     }
 
     public void refund(BigDecimal refundAmount) {
-        if (this.status == PaymentStatus.CANCELLED || this.status == PaymentStatus.REFUNDED) {
-            throw new IllegalStateException("이미 취소되거나 환불된 결제입니다");
+        if (!this.status.canTransitionTo(PaymentStatus.REFUNDED)) {
+            throw new InvalidStateException("완료된 결제만 환불 가능합니다");
         }
         if (refundAmount.compareTo(this.amount) > 0) {
-            throw new IllegalArgumentException("환불 금액이 결제 금액을 초과할 수 없습니다");
+            throw new InvalidRequestException("환불 금액이 결제 금액을 초과할 수 없습니다");
         }
         this.status = PaymentStatus.REFUNDED;
         this.amount = this.amount.subtract(refundAmount);
@@ -1,11 +1,18 @@
 package kr.minigate.ordersystem.domain;
 
 public enum PaymentStatus {
+    PENDING("결제대기"),
     COMPLETED("결제완료"),
     FAILED("결제실패"),
     CANCELLED("결제취소"),
     REFUNDED("환불완료");
 
+    // 실패, 취소, 환불된 결제는 더 바뀌지 않는다 (실패한 결제의 재고는 실패 처리 때 이미 돌려놓았다)
+    private static final StatusTransitions<PaymentStatus> TRANSITIONS = StatusTransitions.builder(PaymentStatus.class)
+        .allow(PENDING, COMPLETED, FAILED, CANCELLED)
+        .allow(COMPLETED, CANCELLED, REFUNDED)
+        .build();
+
     private final String description;
 
     PaymentStatus(String description) {
@@ -15,4 +22,8 @@ public enum PaymentStatus {
     public String getDescription() {
         return description;
     }
-}
\ No newline at end of file
+
+    public boolean canTransitionTo(PaymentStatus target) {
+        return TRANSITIONS.allows(this, target);
+    }
+}
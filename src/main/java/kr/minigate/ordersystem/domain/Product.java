@@ -1,21 +1,30 @@
 package kr.minigate.ordersystem.domain;
 
 import jakarta.persistence.*;
+import kr.minigate.ordersystem.domain.exception.InsufficientStockException;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
+@Table(name = "products", indexes = {
+    @Index(name = "idx_products_created_at_id", columnList = "created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq")
+    @SequenceGenerator(name = "products_seq", sequenceName = "products_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -30,6 +39,15 @@ public class Product extends BaseEntity {
     @Column(nullable = false)
     private Integer stock;
 
+    // 이름, 설명, 가격이 마지막으로 바뀐 시각. 재고만 바뀔 때는 그대로라서 주문 조회 ETag에 쓴다.
+    // 등록할 때는 감사 리스너(엔티티 콜백보다 먼저 실행)가 채운 updatedAt을 그대로 쓴다
+    @Column(name = "details_updated_at")
+    private LocalDateTime detailsUpdatedAt;
+
+    // 재고 조건부 UPDATE와 일괄 UPDATE도 버전을 함께 올린다
+    @Version
+    private Long version;
+
     @Builder
     public Product(String name, String description, BigDecimal price, Integer stock) {
         this.name = name;
@@ -38,9 +56,14 @@ public class Product extends BaseEntity {
         this.stock = stock;
     }
 
+    @PrePersist
+    void initDetailsUpdatedAt() {
+        this.detailsUpdatedAt = getUpdatedAt();
+    }
+
     public void decreaseStock(int quantity) {
         if (this.stock < quantity) {
-            throw new IllegalArgumentException("재고가 부족합니다. 현재 재고: " + this.stock + ", 요청 수량: " + quantity);
+            throw new InsufficientStockException("재고가 부족합니다. 현재 재고: " + this.stock + ", 요청 수량: " + quantity);
         }
         this.stock -= quantity;
     }
@@ -0,0 +1,66 @@
+package kr.minigate.ordersystem.domain;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상태 전이 표. 상태마다 바꿀 수 있는 상태와, 반대로 그 상태로 올 수 있는 상태를
+ * 처음 한 번 EnumSet(비트 집합)으로 계산해 두고 전이 검사는 비트 확인으로 끝낸다.
+ */
+final class StatusTransitions<S extends Enum<S>> {
+
+    private final Map<S, Set<S>> targets;
+    private final Map<S, Set<S>> sources;
+
+    private StatusTransitions(Class<S> type, Map<S, EnumSet<S>> allowed) {
+        Map<S, Set<S>> targets = new EnumMap<>(type);
+        Map<S, EnumSet<S>> sources = new EnumMap<>(type);
+        for (S status : type.getEnumConstants()) {
+            sources.put(status, EnumSet.noneOf(type));
+        }
+        for (S from : type.getEnumConstants()) {
+            EnumSet<S> to = allowed.getOrDefault(from, EnumSet.noneOf(type));
+            targets.put(from, Collections.unmodifiableSet(to));
+            to.forEach(target -> sources.get(target).add(from));
+        }
+        this.targets = targets;
+        this.sources = new EnumMap<>(type);
+        sources.forEach((target, from) -> this.sources.put(target, Collections.unmodifiableSet(from)));
+    }
+
+    static <S extends Enum<S>> Builder<S> builder(Class<S> type) {
+        return new Builder<>(type);
+    }
+
+    boolean allows(S from, S to) {
+        return targets.get(from).contains(to);
+    }
+
+    Set<S> sourcesOf(S to) {
+        return sources.get(to);
+    }
+
+    static final class Builder<S extends Enum<S>> {
+
+        private final Class<S> type;
+        private final Map<S, EnumSet<S>> allowed;
+
+        private Builder(Class<S> type) {
+            this.type = type;
+            this.allowed = new EnumMap<>(type);
+        }
+
+        @SafeVarargs
+        final Builder<S> allow(S from, S... to) {
+            allowed.computeIfAbsent(from, status -> EnumSet.noneOf(type)).addAll(Set.of(to));
+            return this;
+        }
+
+        StatusTransitions<S> build() {
+            return new StatusTransitions<>(type, allowed);
+        }
+    }
+}
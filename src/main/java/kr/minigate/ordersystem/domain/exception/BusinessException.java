@@ -0,0 +1,17 @@
+package kr.minigate.ordersystem.domain.exception;
+
+import lombok.Getter;
+
+/**
+ * 예상 가능한 비즈니스 실패. 잘못된 요청이 많을 때 비용이 커지지 않도록 스택 트레이스를 채우지 않는다.
+ */
+@Getter
+public abstract class BusinessException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    protected BusinessException(ErrorCode errorCode, String message) {
+        super(message, null, false, false);
+        this.errorCode = errorCode;
+    }
+}
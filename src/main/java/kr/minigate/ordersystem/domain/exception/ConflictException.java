@@ -0,0 +1,8 @@
+package kr.minigate.ordersystem.domain.exception;
+
+public class ConflictException extends BusinessException {
+
+    public ConflictException(String message) {
+        super(ErrorCode.CONFLICT, message);
+    }
+}
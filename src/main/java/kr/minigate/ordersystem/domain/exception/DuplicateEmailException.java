@@ -0,0 +1,8 @@
+package kr.minigate.ordersystem.domain.exception;
+
+public class DuplicateEmailException extends BusinessException {
+
+    public DuplicateEmailException(String message) {
+        super(ErrorCode.DUPLICATE_EMAIL, message);
+    }
+}
@@ -0,0 +1,8 @@
+package kr.minigate.ordersystem.domain.exception;
+
+public class DuplicatePaymentException extends BusinessException {
+
+    public DuplicatePaymentException(String message) {
+        super(ErrorCode.DUPLICATE_PAYMENT, message);
+    }
+}
@@ -0,0 +1,23 @@
+package kr.minigate.ordersystem.domain.exception;
+
+import java.util.Locale;
+
+public enum ErrorCode {
+    NOT_FOUND,
+    INSUFFICIENT_STOCK,
+    DUPLICATE_PAYMENT,
+    DUPLICATE_EMAIL,
+    INVALID_STATE,
+    INVALID_REQUEST,
+    REQUEST_IN_PROGRESS,
+    CONFLICT,
+    // 주문 일괄 생성에서 청크 트랜잭션이 롤백되어 함께 실패한 주문
+    CHUNK_FAILED,
+    // 처리가 밀려 정해진 시간 안에 끝내지 못한 요청. 잠시 후 다시 시도할 수 있다
+    SERVICE_UNAVAILABLE;
+
+    // 응답 본문과 메트릭 태그에 쓰는 값 (예: not_found)
+    public String code() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
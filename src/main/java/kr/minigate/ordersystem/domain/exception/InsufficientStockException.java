@@ -0,0 +1,8 @@
+package kr.minigate.ordersystem.domain.exception;
+
+public class InsufficientStockException extends BusinessException {
+
+    public InsufficientStockException(String message) {
+        super(ErrorCode.INSUFFICIENT_STOCK, message);
+    }
+}
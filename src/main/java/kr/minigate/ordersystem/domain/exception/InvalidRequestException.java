@@ -0,0 +1,8 @@
+package kr.minigate.ordersystem.domain.exception;
+
+public class InvalidRequestException extends BusinessException {
+
+    public InvalidRequestException(String message) {
+        super(ErrorCode.INVALID_REQUEST, message);
+    }
+}
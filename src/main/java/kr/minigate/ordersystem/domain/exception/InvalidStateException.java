@@ -0,0 +1,8 @@
+package kr.minigate.ordersystem.domain.exception;
+
+public class InvalidStateException extends BusinessException {
+
+    public InvalidStateException(String message) {
+        super(ErrorCode.INVALID_STATE, message);
+    }
+}
@@ -0,0 +1,8 @@
+package kr.minigate.ordersystem.domain.exception;
+
+public class NotFoundException extends BusinessException {
+
+    public NotFoundException(String message) {
+        super(ErrorCode.NOT_FOUND, message);
+    }
+}
@@ -0,0 +1,8 @@
+package kr.minigate.ordersystem.domain.exception;
+
+public class RequestInProgressException extends BusinessException {
+
+    public RequestInProgressException(String message) {
+        super(ErrorCode.REQUEST_IN_PROGRESS, message);
+    }
+}
@@ -0,0 +1,10 @@
+package kr.minigate.ordersystem.domain.repository;
+
+import kr.minigate.ordersystem.domain.Member;
+
+import java.util.Optional;
+
+public interface MemberNaturalIdRepository {
+    // 자연 키(이메일) 조회. 캐시에 있으면 쿼리 없이 반환한다
+    Optional<Member> findByEmail(String email);
+}
@@ -1,11 +1,32 @@
 package kr.minigate.ordersystem.domain.repository;
 
+import kr.minigate.ordersystem.application.dto.MemberQuery;
 import kr.minigate.ordersystem.domain.Member;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
-public interface MemberRepository extends JpaRepository<Member, Long> {
-    Optional<Member> findByEmail(String email);
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberNaturalIdRepository {
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    // 조회 전용 프로젝션: 엔티티를 영속성 컨텍스트에 올리지 않고 DTO로 바로 조회
+    String MEMBER_QUERY = "select new kr.minigate.ordersystem.application.dto.MemberQuery(" +
+        "m.id, m.name, m.email, m.phone, m.address, m.createdAt) from Member m ";
+
+    @Query(MEMBER_QUERY + "where m.id = :id")
+    Optional<MemberQuery> findQueryById(@Param("id") Long id);
+
+    // 키셋 페이지네이션 (createdAt, id 내림차순)
+    @Query(MEMBER_QUERY + "order by m.createdAt desc, m.id desc")
+    List<MemberQuery> findLatestQueries(Limit limit);
+
+    @Query(MEMBER_QUERY +
+           "where m.createdAt < :createdAt or (m.createdAt = :createdAt and m.id < :id) " +
+           "order by m.createdAt desc, m.id desc")
+    List<MemberQuery> findQueriesOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+}
@@ -1,11 +1,101 @@
 package kr.minigate.ordersystem.domain.repository;
 
+import jakarta.persistence.QueryHint;
+import kr.minigate.ordersystem.application.dto.OrderItemRow;
+import kr.minigate.ordersystem.application.dto.OrderQuery;
+import kr.minigate.ordersystem.application.dto.OrderStatusRow;
 import kr.minigate.ordersystem.domain.Order;
+import kr.minigate.ordersystem.domain.OrderStatus;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
-    List<Order> findByMemberIdOrderByCreatedAtDesc(Long memberId);
-    List<Order> findAllByOrderByCreatedAtDesc();
-}
\ No newline at end of file
+    // 조회 전용 프로젝션: 주문 헤더와 아이템 행을 각각 DTO로 조회해 조립한다
+    String ORDER_QUERY = "select new kr.minigate.ordersystem.application.dto.OrderQuery(" +
+        "o.id, m.id, m.name, o.totalAmount, o.status, o.createdAt) from Order o join o.member m ";
+
+    @Query(ORDER_QUERY + "where o.id = :id")
+    Optional<OrderQuery> findQueryById(@Param("id") Long id);
+
+    // 조건부 조회(ETag)용. 주문 응답에 들어가는 주문, 회원(이름), 상품(이름)의 수정 시각. 상품은 재고 변경을 빼고 본다
+    @Query("select o.updatedAt from Order o where o.id = :id " +
+           "union all select m.updatedAt from Order o join o.member m where o.id = :id " +
+           "union all select p.detailsUpdatedAt from OrderItem oi join oi.product p where oi.order.id = :id")
+    List<LocalDateTime> findUpdatedAtsById(@Param("id") Long id);
+
+    @Query("select new kr.minigate.ordersystem.application.dto.OrderItemRow(" +
+           "oi.order.id, oi.id, p.id, p.name, oi.quantity, oi.price, oi.amount) " +
+           "from OrderItem oi join oi.product p where oi.order.id in :orderIds order by oi.id")
+    List<OrderItemRow> findOrderItemRows(@Param("orderIds") Collection<Long> orderIds);
+
+    @Query(ORDER_QUERY + "where o.id in :ids")
+    List<OrderQuery> findQueriesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new kr.minigate.ordersystem.application.dto.OrderStatusRow(o.id, o.status) " +
+           "from Order o where o.id in :ids")
+    List<OrderStatusRow> findStatusRows(@Param("ids") Collection<Long> ids);
+
+    // 일괄 상태 전이. 전이할 수 있는 상태인 주문만 바꾸고, 버전을 올려 엔티티로 수정 중인 요청이 충돌하게 한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :status, o.version = o.version + 1, o.updatedAt = :updatedAt " +
+           "where o.id in :ids and o.status in :sources")
+    int updateStatuses(@Param("ids") Collection<Long> ids,
+                       @Param("sources") Collection<OrderStatus> sources,
+                       @Param("status") OrderStatus status,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 키셋 페이지네이션 (createdAt, id 내림차순)
+    @Query(ORDER_QUERY + "order by o.createdAt desc, o.id desc")
+    List<OrderQuery> findLatestQueries(Limit limit);
+
+    @Query(ORDER_QUERY +
+           "where o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id) " +
+           "order by o.createdAt desc, o.id desc")
+    List<OrderQuery> findQueriesOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query(ORDER_QUERY + "where m.id = :memberId order by o.createdAt desc, o.id desc")
+    List<OrderQuery> findLatestQueriesByMemberId(@Param("memberId") Long memberId, Limit limit);
+
+    @Query(ORDER_QUERY +
+           "where m.id = :memberId " +
+           "and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id)) " +
+           "order by o.createdAt desc, o.id desc")
+    List<OrderQuery> findQueriesOlderThanByMemberId(@Param("memberId") Long memberId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id,
+                                                    Limit limit);
+
+    // 내보내기용 전진 전용 커서. 호출 측 트랜잭션 안에서 닫아야 한다
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o from Order o join fetch o.member " +
+           "where (:status is null or o.status = :status) " +
+           "and (:from is null or o.createdAt >= :from) " +
+           "and (:to is null or o.createdAt < :to) " +
+           "order by o.id")
+    Stream<Order> streamForExport(@Param("status") OrderStatus status,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
+
+    // 단건 조회: 회원, 주문 아이템, 상품을 한 번의 쿼리로 로딩
+    @EntityGraph(attributePaths = {"member", "orderItems", "orderItems.product"})
+    Optional<Order> findWithOrderItemsById(Long id);
+
+    // 목록 조회 2단계: 이미 로딩된 주문들의 아이템과 상품을 fetch join으로 한 번에 초기화
+    @Query("select o from Order o left join fetch o.orderItems oi left join fetch oi.product where o.id in :ids")
+    List<Order> fetchOrderItems(@Param("ids") Collection<Long> ids);
+}
@@ -1,12 +1,45 @@
 package kr.minigate.ordersystem.domain.repository;
 
+import kr.minigate.ordersystem.application.dto.PaymentQuery;
 import kr.minigate.ordersystem.domain.Payment;
+import kr.minigate.ordersystem.domain.PaymentStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByOrderId(Long orderId);
-    List<Payment> findAllByOrderByCreatedAtDesc();
-}
\ No newline at end of file
+
+    // 조회 전용 프로젝션: 엔티티를 영속성 컨텍스트에 올리지 않고 DTO로 바로 조회
+    String PAYMENT_QUERY = "select new kr.minigate.ordersystem.application.dto.PaymentQuery(" +
+        "p.id, p.order.id, p.amount, p.paymentMethod, p.status, p.transactionId, p.createdAt) from Payment p ";
+
+    @Query(PAYMENT_QUERY + "where p.id = :id")
+    Optional<PaymentQuery> findQueryById(@Param("id") Long id);
+
+    // 조건부 조회(ETag)용. 결제 응답은 결제 행만으로 만들어진다
+    @Query("select p.updatedAt from Payment p where p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    @Query(PAYMENT_QUERY + "where p.order.id = :orderId")
+    Optional<PaymentQuery> findQueryByOrderId(@Param("orderId") Long orderId);
+
+    // 키셋 페이지네이션 (createdAt, id 내림차순)
+    @Query(PAYMENT_QUERY + "order by p.createdAt desc, p.id desc")
+    List<PaymentQuery> findLatestQueries(Limit limit);
+
+    @Query(PAYMENT_QUERY +
+           "where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id) " +
+           "order by p.createdAt desc, p.id desc")
+    List<PaymentQuery> findQueriesOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    // 비동기 결제 작업이 유실된 경우 재처리 대상 조회
+    @Query("select p.id from Payment p where p.status = :status and p.createdAt < :before order by p.id")
+    List<Long> findIdsByStatusCreatedBefore(@Param("status") PaymentStatus status,
+                                            @Param("before") LocalDateTime before, Limit limit);
+}
@@ -0,0 +1,16 @@
+package kr.minigate.ordersystem.domain.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+public interface ProductBulkRepository {
+    // 상품 정보와 재고를 덮어쓰며, 존재하지 않아 반영하지 못한 상품 ID를 반환한다
+    List<Long> updateProducts(List<ProductUpdate> updates);
+
+    // 재고를 증감하며, 존재하지 않거나 재고가 음수가 되어 반영하지 못한 상품 ID를 반환한다
+    List<Long> adjustStocks(Map<Long, Integer> deltas);
+
+    record ProductUpdate(Long id, String name, String description, BigDecimal price, int stock) {
+    }
+}
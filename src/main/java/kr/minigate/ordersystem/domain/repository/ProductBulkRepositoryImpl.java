@@ -0,0 +1,137 @@
+package kr.minigate.ordersystem.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kr.minigate.ordersystem.application.event.ProductStockChangedEvent;
+import kr.minigate.ordersystem.domain.Product;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 창고 동기화용 상품 일괄 UPDATE. 엔티티를 읽어 변경 감지로 한 건씩 UPDATE하지 않고,
+ * 같은 커넥션에서 JDBC 배치 문장으로 한 번에 보낸다. 2차 캐시는 바뀐 상품만 제거한다.
+ * 수정 시각은 JPA 감사와 같은 애플리케이션 시각으로 기록한다 (ETag 비교가 한 시계를 기준으로 하도록).
+ */
+class ProductBulkRepositoryImpl implements ProductBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPDATE_PRODUCT =
+        "update products set name = ?, description = ?, price = ?, stock = ?, version = version + 1, " +
+        "updated_at = ?, details_updated_at = ? where id = ?";
+
+    private static final String ADJUST_STOCK =
+        "update products set stock = stock + ?, version = version + 1, updated_at = ? " +
+        "where id = ? and stock + ? >= 0";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final DateTimeProvider dateTimeProvider;
+
+    ProductBulkRepositoryImpl(ApplicationEventPublisher eventPublisher, DateTimeProvider dateTimeProvider) {
+        this.eventPublisher = eventPublisher;
+        this.dateTimeProvider = dateTimeProvider;
+    }
+
+    @Override
+    @Transactional
+    public List<Long> updateProducts(List<ProductUpdate> updates) {
+        List<Long> ids = updates.stream().map(ProductUpdate::id).toList();
+        LocalDateTime now = now();
+        return executeBatch(UPDATE_PRODUCT, ids, (statement, i) -> {
+            ProductUpdate update = updates.get(i);
+            statement.setString(1, update.name());
+            statement.setString(2, update.description());
+            statement.setBigDecimal(3, update.price());
+            statement.setInt(4, update.stock());
+            statement.setObject(5, now);
+            statement.setObject(6, now);
+            statement.setLong(7, update.id());
+        });
+    }
+
+    @Override
+    @Transactional
+    public List<Long> adjustStocks(Map<Long, Integer> deltas) {
+        List<Long> ids = List.copyOf(deltas.keySet());
+        LocalDateTime now = now();
+        List<Long> failed = executeBatch(ADJUST_STOCK, ids, (statement, i) -> {
+            int delta = deltas.get(ids.get(i));
+            statement.setInt(1, delta);
+            statement.setObject(2, now);
+            statement.setLong(3, ids.get(i));
+            statement.setInt(4, delta);
+        });
+        Set<Long> failedIds = Set.copyOf(failed);
+        List<Long> changed = ids.stream().filter(id -> !failedIds.contains(id)).toList();
+        if (!changed.isEmpty()) {
+            eventPublisher.publishEvent(new ProductStockChangedEvent(changed));
+        }
+        return failed;
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.from(dateTimeProvider.getNow().orElseThrow());
+    }
+
+    // 영향받은 행이 없는 ID를 반환한다
+    private List<Long> executeBatch(String sql, List<Long> ids, Binder binder) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // 네이티브 JDBC 문장은 자동 플러시되지 않으므로 아직 쓰지 않은 INSERT/UPDATE를 먼저 반영한다
+        entityManager.flush();
+        List<Long> failed = new ArrayList<>();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                    int to = Math.min(from + BATCH_SIZE, ids.size());
+                    for (int i = from; i < to; i++) {
+                        binder.bind(statement, i);
+                        statement.addBatch();
+                    }
+                    int[] counts = statement.executeBatch();
+                    for (int i = 0; i < counts.length; i++) {
+                        if (counts[i] == 0) {
+                            failed.add(ids.get(from + i));
+                        }
+                    }
+                }
+            }
+        });
+        evict(ids);
+        return failed;
+    }
+
+    // 지금 지우고, 트랜잭션 중에 다시 적재된 값(커밋 전 값)도 끝난 뒤 한 번 더 지운다
+    private void evict(List<Long> ids) {
+        ids.forEach(id -> entityManager.getEntityManagerFactory().getCache().evict(Product.class, id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ids.forEach(id -> entityManager.getEntityManagerFactory().getCache().evict(Product.class, id));
+                }
+            });
+        }
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        void bind(PreparedStatement statement, int index) throws SQLException;
+    }
+}
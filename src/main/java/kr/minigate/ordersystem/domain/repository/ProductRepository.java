@@ -1,10 +1,32 @@
 package kr.minigate.ordersystem.domain.repository;
 
+import kr.minigate.ordersystem.application.dto.ProductStockRow;
 import kr.minigate.ordersystem.domain.Product;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
-    List<Product> findByNameContaining(String name);
-}
\ No newline at end of file
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductStockRepository, ProductBulkRepository {
+    // 키셋 페이지네이션 (createdAt, id 내림차순)
+    @Query("select p from Product p order by p.createdAt desc, p.id desc")
+    List<Product> findLatest(Limit limit);
+
+    @Query("select p from Product p " +
+           "where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id) " +
+           "order by p.createdAt desc, p.id desc")
+    List<Product> findOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    // 2차 캐시를 거치지 않고 현재 재고를 읽는다
+    @Query("select p.stock from Product p where p.id = :id")
+    Optional<Integer> findStockById(@Param("id") Long id);
+
+    @Query("select new kr.minigate.ordersystem.application.dto.ProductStockRow(p.id, p.stock) " +
+           "from Product p where p.id in :ids")
+    List<ProductStockRow> findStockRows(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,8 @@
+package kr.minigate.ordersystem.domain.repository;
+
+public interface ProductStockRepository {
+    // 재고가 충분할 때만 차감하며, 영향받은 행 수(0 또는 1)로 성공 여부를 반환한다
+    int decreaseStock(Long id, int quantity);
+
+    int increaseStock(Long id, int quantity);
+}
@@ -0,0 +1,85 @@
+package kr.minigate.ordersystem.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kr.minigate.ordersystem.application.event.ProductStockChangedEvent;
+import kr.minigate.ordersystem.domain.Product;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 재고 UPDATE. JPQL 벌크 UPDATE는 Product 2차 캐시 영역 전체를 비우므로
+ * 네이티브 UPDATE에 엔티티와 무관한 쿼리 공간을 지정하고, 바뀐 상품 하나만 캐시에서 제거한다.
+ * 상품 카탈로그도 갱신되도록 재고 변경 이벤트를 발행한다.
+ * updated_at은 DB 시각(current_timestamp)이 아니라 JPA 감사와 같은 애플리케이션 시각으로 기록한다.
+ */
+class ProductStockRepositoryImpl implements ProductStockRepository {
+
+    private static final String STOCK_QUERY_SPACE = "product_stock";
+
+    private static final String DECREASE_STOCK =
+        "update products set stock = stock - :quantity, version = version + 1, updated_at = :updatedAt " +
+        "where id = :id and stock >= :quantity";
+
+    private static final String INCREASE_STOCK =
+        "update products set stock = stock + :quantity, version = version + 1, updated_at = :updatedAt " +
+        "where id = :id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final DateTimeProvider dateTimeProvider;
+
+    ProductStockRepositoryImpl(ApplicationEventPublisher eventPublisher, DateTimeProvider dateTimeProvider) {
+        this.eventPublisher = eventPublisher;
+        this.dateTimeProvider = dateTimeProvider;
+    }
+
+    @Override
+    @Transactional
+    public int decreaseStock(Long id, int quantity) {
+        return updateStock(DECREASE_STOCK, id, quantity);
+    }
+
+    @Override
+    @Transactional
+    public int increaseStock(Long id, int quantity) {
+        return updateStock(INCREASE_STOCK, id, quantity);
+    }
+
+    // 쿼리 공간이 products가 아니어서 자동 플러시되지 않는다. 같은 트랜잭션에서 아직 쓰지 않은 상품 INSERT가 있으면
+    // 호출하는 쪽이 재고 변경을 시작하기 전에 한 번 플러시한다 (호출마다 플러시하지 않는다)
+    private int updateStock(String sql, Long id, int quantity) {
+        int updated = entityManager.createNativeQuery(sql)
+            .setParameter("id", id)
+            .setParameter("quantity", quantity)
+            .setParameter("updatedAt", LocalDateTime.from(dateTimeProvider.getNow().orElseThrow()))
+            .setHint(HibernateHints.HINT_NATIVE_SPACES, STOCK_QUERY_SPACE)
+            .executeUpdate();
+        if (updated > 0) {
+            evict(id);
+            eventPublisher.publishEvent(new ProductStockChangedEvent(id));
+        }
+        return updated;
+    }
+
+    // 지금 지우고, 트랜잭션 중에 다시 적재된 값(커밋 전 재고)도 끝난 뒤 한 번 더 지운다
+    private void evict(Long id) {
+        entityManager.getEntityManagerFactory().getCache().evict(Product.class, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    entityManager.getEntityManagerFactory().getCache().evict(Product.class, id);
+                }
+            });
+        }
+    }
+}
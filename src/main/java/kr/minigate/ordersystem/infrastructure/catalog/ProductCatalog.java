@@ -0,0 +1,189 @@
+package kr.minigate.ordersystem.infrastructure.catalog;
+
+import kr.minigate.ordersystem.application.dto.ProductQuery;
+import kr.minigate.ordersystem.application.dto.ProductStockRow;
+import kr.minigate.ordersystem.application.event.ProductBatchEvent;
+import kr.minigate.ordersystem.application.event.ProductStockChangedEvent;
+import kr.minigate.ordersystem.domain.Product;
+import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 상품 목록/단건 조회용 메모리 스냅샷. 처음 조회할 때 DB 전체를 읽어 오고,
+ * 이후에는 커밋된 상품 변경마다 스냅샷을 복사해 바꾼 뒤 통째로 교체한다 (copy-on-write).
+ * 조회는 잠금 없이 현재 스냅샷을 읽으며, 쓰기(적재 포함)만 한 번에 하나씩 처리한다.
+ * 재고 변경은 주문마다 일어나므로 바뀐 상품 ID만 모아 두고 stock-refresh-interval마다 한 번에 반영한다.
+ */
+@Slf4j
+@Component
+public class ProductCatalog {
+
+    // 키셋 페이지네이션과 같은 순서 (createdAt, id 내림차순)
+    private static final Comparator<ProductQuery> LATEST_FIRST = Comparator
+        .comparing(ProductQuery::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+        .thenComparing(ProductQuery::id)
+        .reversed();
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final Set<Long> staleStockIds = ConcurrentHashMap.newKeySet();
+    private volatile Snapshot snapshot;
+
+    public ProductCatalog(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    public List<ProductQuery> findLatest(int limit) {
+        List<ProductQuery> products = current().products();
+        return List.copyOf(products.subList(0, Math.min(limit, products.size())));
+    }
+
+    public List<ProductQuery> findOlderThan(LocalDateTime createdAt, Long id, int limit) {
+        List<ProductQuery> products = current().products();
+        int from = Collections.binarySearch(products, cursorKey(createdAt, id), LATEST_FIRST);
+        from = from >= 0 ? from + 1 : -from - 1;
+        return List.copyOf(products.subList(from, Math.min(from + limit, products.size())));
+    }
+
+    // 스냅샷에 아직 반영되지 않은 상품(커밋 직후)은 비어 있을 수 있다
+    public Optional<ProductQuery> find(Long id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    // 일괄 등록/수정도 스냅샷은 한 번만 교체한다
+    @TransactionalEventListener
+    public void onProductEvent(ProductBatchEvent event) {
+        update(snapshot -> snapshot.with(event.products()));
+    }
+
+    // 주문 커밋 경로에서는 잠금이나 DB 조회 없이 바뀐 상품 ID만 기록한다.
+    // 적재 중에 커밋된 변경도 놓치지 않도록 적재 전부터 기록하고, 적재가 끝난 뒤 첫 주기에 다시 읽는다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(ProductStockChangedEvent event) {
+        staleStockIds.addAll(event.productIds());
+    }
+
+    // 재고는 조건부 UPDATE로만 바뀌므로 이벤트 순서와 관계없이 커밋된 현재 값을 다시 읽는다.
+    // 그동안 바뀐 상품을 한 번에 읽어 스냅샷을 한 번만 교체한다
+    @Scheduled(fixedDelayString = "${ordersystem.product-catalog.stock-refresh-interval:1s}")
+    public void refreshStocks() {
+        if (snapshot == null || staleStockIds.isEmpty()) {
+            return;
+        }
+        update(snapshot -> {
+            // 꺼낸 뒤에 바뀐 상품은 다시 기록되어 다음 주기에 읽는다
+            List<Long> ids = new ArrayList<>();
+            for (Iterator<Long> it = staleStockIds.iterator(); it.hasNext(); ) {
+                Long id = it.next();
+                it.remove();
+                if (snapshot.byId().containsKey(id)) {
+                    ids.add(id);
+                }
+            }
+            List<ProductStockRow> rows = new ArrayList<>(ids.size());
+            try {
+                for (int from = 0; from < ids.size(); from += LOAD_BATCH_SIZE) {
+                    rows.addAll(productRepository.findStockRows(
+                        ids.subList(from, Math.min(from + LOAD_BATCH_SIZE, ids.size()))));
+                }
+            } catch (RuntimeException e) {
+                staleStockIds.addAll(ids);
+                log.warn("상품 카탈로그 재고 갱신 실패, 다음 주기에 다시 시도: {}건", ids.size(), e);
+                return snapshot;
+            }
+            return rows.isEmpty() ? snapshot : snapshot.withStocks(rows);
+        });
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : load();
+    }
+
+    private synchronized Snapshot load() {
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        List<ProductQuery> products = new ArrayList<>();
+        List<Product> batch = productRepository.findLatest(Limit.of(LOAD_BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            batch.stream().map(ProductQuery::from).forEach(products::add);
+            if (batch.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+            Product last = batch.get(batch.size() - 1);
+            batch = productRepository.findOlderThan(last.getCreatedAt(), last.getId(), Limit.of(LOAD_BATCH_SIZE));
+        }
+        snapshot = Snapshot.of(products);
+        log.info("상품 카탈로그 적재 완료: {}건", products.size());
+        return snapshot;
+    }
+
+    // 아직 적재 전이면 무시한다. 적재할 때 커밋된 값을 그대로 읽어 온다
+    private synchronized void update(UnaryOperator<Snapshot> change) {
+        if (snapshot != null) {
+            snapshot = change.apply(snapshot);
+        }
+    }
+
+    private static ProductQuery withStock(ProductQuery product, Integer stock) {
+        return new ProductQuery(product.id(), product.name(), product.description(), product.price(), stock,
+            product.createdAt());
+    }
+
+    private static ProductQuery cursorKey(LocalDateTime createdAt, Long id) {
+        return new ProductQuery(id, null, null, null, null, createdAt);
+    }
+
+    record Snapshot(List<ProductQuery> products, Map<Long, ProductQuery> byId) {
+
+        static Snapshot of(Collection<ProductQuery> products) {
+            List<ProductQuery> sorted = new ArrayList<>(products);
+            sorted.sort(LATEST_FIRST);
+            Map<Long, ProductQuery> byId = new HashMap<>();
+            sorted.forEach(product -> byId.put(product.id(), product));
+            return new Snapshot(Collections.unmodifiableList(sorted), Collections.unmodifiableMap(byId));
+        }
+
+        Snapshot with(List<ProductQuery> changed) {
+            Map<Long, ProductQuery> merged = new HashMap<>(byId);
+            changed.forEach(product -> merged.put(product.id(), product));
+            return of(merged.values());
+        }
+
+        // 재고는 정렬 순서 (createdAt, id)를 바꾸지 않으므로 다시 정렬하지 않고 제자리에서 바꾼다
+        Snapshot withStocks(List<ProductStockRow> rows) {
+            List<ProductQuery> updated = new ArrayList<>(products);
+            Map<Long, ProductQuery> updatedById = new HashMap<>(byId);
+            for (ProductStockRow row : rows) {
+                ProductQuery current = updatedById.get(row.id());
+                if (current == null) {
+                    continue;
+                }
+                ProductQuery changed = withStock(current, row.stock());
+                updated.set(Collections.binarySearch(updated, current, LATEST_FIRST), changed);
+                updatedById.put(row.id(), changed);
+            }
+            return new Snapshot(Collections.unmodifiableList(updated), Collections.unmodifiableMap(updatedById));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package kr.minigate.ordersystem.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.minigate.ordersystem.config.IdempotencyProperties;
+import kr.minigate.ordersystem.domain.exception.InvalidRequestException;
+import kr.minigate.ordersystem.domain.exception.RequestInProgressException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더가 붙은 쓰기 요청을 한 번만 실행한다.
+ * 키는 명령과 같은 트랜잭션에서 idempotency_keys 테이블에 선점되고 결과와 함께 커밋된다.
+ * 재시도는 최근 응답 캐시나 키 테이블만 조회해 이전 결과를 그대로 돌려준다.
+ */
+@Slf4j
+@Component
+public class IdempotencyHandler {
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final RecentResponseCache recentResponses;
+
+    public IdempotencyHandler(IdempotencyRecordRepository recordRepository,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              IdempotencyProperties properties) {
+        this.recordRepository = recordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.recentResponses = new RecentResponseCache(properties.cacheSize(), properties.cacheTtl(), Clock.systemUTC());
+    }
+
+    public <T> T execute(String scope, String key, Object request, Class<T> resultType, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+
+        String cacheKey = scope + ":" + key;
+        String requestHash = hash(request);
+
+        RecentResponseCache.Entry cached = recentResponses.get(cacheKey);
+        if (cached != null) {
+            verifySameRequest(cached.requestHash(), requestHash);
+            return resultType.cast(cached.response());
+        }
+
+        IdempotencyRecord existing = recordRepository.findByScopeAndIdempotencyKey(scope, key).orElse(null);
+        if (existing != null) {
+            return replay(cacheKey, existing, requestHash, resultType);
+        }
+
+        try {
+            T result = transactionTemplate.execute(status -> {
+                IdempotencyRecord record = claim(scope, key, requestHash);
+                T value = action.get();
+                record.complete(toJson(value));
+                return value;
+            });
+            recentResponses.put(cacheKey, requestHash, result);
+            return result;
+        } catch (KeyAlreadyClaimedException e) {
+            // 같은 키의 다른 요청이 먼저 커밋했으면 그 결과를, 아직 처리 중이면 충돌로 응답
+            return recordRepository.findByScopeAndIdempotencyKey(scope, key)
+                .map(record -> replay(cacheKey, record, requestHash, resultType))
+                .orElseThrow(() -> new RequestInProgressException("같은 Idempotency-Key 요청이 처리 중입니다"));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ordersystem.idempotency.purge-interval:1h}")
+    public void purgeExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minus(properties.retention());
+        Integer purged = transactionTemplate.execute(status -> recordRepository.deleteCreatedBefore(threshold));
+        if (purged != null && purged > 0) {
+            log.debug("만료된 Idempotency-Key {}건 삭제", purged);
+        }
+    }
+
+    private IdempotencyRecord claim(String scope, String key, String requestHash) {
+        try {
+            return recordRepository.saveAndFlush(new IdempotencyRecord(scope, key, requestHash));
+        } catch (DataIntegrityViolationException e) {
+            throw new KeyAlreadyClaimedException(e);
+        }
+    }
+
+    private <T> T replay(String cacheKey, IdempotencyRecord record, String requestHash, Class<T> resultType) {
+        verifySameRequest(record.getRequestHash(), requestHash);
+        try {
+            T result = objectMapper.readValue(record.getResponseBody(), resultType);
+            recentResponses.put(cacheKey, record.getRequestHash(), result);
+            return result;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다", e);
+        }
+    }
+
+    private void verifySameRequest(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new InvalidRequestException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다");
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 해시를 계산할 수 없습니다", e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 저장할 수 없습니다", e);
+        }
+    }
+
+    private static class KeyAlreadyClaimedException extends RuntimeException {
+        KeyAlreadyClaimedException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package kr.minigate.ordersystem.infrastructure.idempotency;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 최근 응답을 보관하는 LRU 캐시. 크기를 넘으면 가장 오래 사용되지 않은 항목부터, TTL이 지나면 조회 시점에 제거
+class RecentResponseCache {
+
+    record Entry(String requestHash, Object response, Instant expiresAt) {
+    }
+
+    private final int maxSize;
+    private final Duration ttl;
+    private final Clock clock;
+    private final LinkedHashMap<String, Entry> entries;
+
+    RecentResponseCache(int maxSize, Duration ttl, Clock clock) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > RecentResponseCache.this.maxSize;
+            }
+        };
+    }
+
+    synchronized Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.expiresAt().isAfter(clock.instant())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    synchronized void put(String key, String requestHash, Object response) {
+        entries.put(key, new Entry(requestHash, response, clock.instant().plus(ttl)));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,76 @@
+package kr.minigate.ordersystem.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import kr.minigate.ordersystem.domain.exception.BusinessException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 애플리케이션 서비스 구현체의 모든 public 메서드에 대해 지연 시간, 비즈니스 실패, 진행 중 호출 수를 기록한다.
+ * result 태그로 빠르게 끝나는 검증 실패와 정상 처리를 구분해서 볼 수 있다.
+ * 가장 바깥에서 감싸므로 호출자가 겪는 시간 그대로, 즉 커밋과 충돌 재시도(ConflictRetryAspect)까지 포함해 잰다.
+ * 재시도를 다 쓴 충돌도 reason=conflict 비즈니스 실패로 기록된다.
+ */
+@Aspect
+@Component
+@Order(ServiceMetricsAspect.ORDER)
+public class ServiceMetricsAspect {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    static final String TIMER_NAME = "ordersystem.service";
+    static final String FAILURE_COUNTER_NAME = "ordersystem.service.failures";
+    static final String IN_FLIGHT_GAUGE_NAME = "ordersystem.service.in.flight";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * kr.minigate.ordersystem.application.service.*ServiceImpl.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        AtomicInteger running = inFlight.computeIfAbsent(service, this::registerInFlightGauge);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        running.incrementAndGet();
+        String result = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (BusinessException e) {
+            result = "business_failure";
+            Counter.builder(FAILURE_COUNTER_NAME)
+                .tags(Tags.of("service", service, "method", method, "reason", e.getErrorCode().code()))
+                .register(meterRegistry)
+                .increment();
+            throw e;
+        } catch (Throwable e) {
+            result = "error";
+            throw e;
+        } finally {
+            running.decrementAndGet();
+            sample.stop(Timer.builder(TIMER_NAME)
+                .tags(Tags.of("service", service, "method", method, "result", result))
+                .register(meterRegistry));
+        }
+    }
+
+    private AtomicInteger registerInFlightGauge(String service) {
+        return meterRegistry.gauge(IN_FLIGHT_GAUGE_NAME, Tags.of("service", service), new AtomicInteger());
+    }
+}
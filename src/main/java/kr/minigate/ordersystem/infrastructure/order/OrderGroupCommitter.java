@@ -0,0 +1,201 @@
+package kr.minigate.ordersystem.infrastructure.order;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.minigate.ordersystem.application.dto.OrderCreateCommand;
+import kr.minigate.ordersystem.application.dto.OrderCreateResult;
+import kr.minigate.ordersystem.application.dto.OrderQuery;
+import kr.minigate.ordersystem.application.service.OrderCommandService;
+import kr.minigate.ordersystem.config.OrderGroupCommitProperties;
+import kr.minigate.ordersystem.domain.exception.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 동시에 들어온 주문 생성 요청을 최대 max-wait 동안 또는 max-batch-size개까지 모아 한 트랜잭션으로 커밋한다 (group commit).
+ * 요청마다 하던 커밋(fsync)을 묶음마다 한 번으로 줄이고, 결과는 요청마다 따로 돌려준다.
+ * 재고 부족 같은 비즈니스 실패는 그 주문만 빠지며, 묶음 전체가 예기치 않게 실패하면 주문마다 따로 다시 처리한다.
+ * 호출자는 max-wait에 트랜잭션 타임아웃을 더한 시간까지만 기다리고, 넘으면 503으로 응답한다.
+ */
+@Slf4j
+public class OrderGroupCommitter {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final OrderCommandService orderCommandService;
+    private final OrderGroupCommitProperties properties;
+    private final Duration awaitTimeout;
+    private final BlockingQueue<PendingOrder> queue;
+    private final DistributionSummary batchSizes;
+    private final List<Thread> committers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    public OrderGroupCommitter(OrderCommandService orderCommandService,
+                               OrderGroupCommitProperties properties,
+                               Duration transactionTimeout,
+                               MeterRegistry meterRegistry) {
+        this.orderCommandService = orderCommandService;
+        this.properties = properties;
+        this.awaitTimeout = properties.maxWait().plus(transactionTimeout);
+        this.queue = new LinkedBlockingQueue<>(properties.queueCapacity());
+        this.batchSizes = DistributionSummary.builder("ordersystem.order.group_commit.batch_size")
+            .description("한 트랜잭션으로 커밋한 주문 수")
+            .register(meterRegistry);
+        Gauge.builder("ordersystem.order.group_commit.queued", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < properties.committers(); i++) {
+            committers.add(Thread.ofPlatform().name("order-group-commit-" + i).daemon().start(this::run));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 커밋 중인 스레드를 인터럽트하지 않고 진행 중인 묶음이 끝나기를 기다린다
+        running = false;
+        for (Thread committer : committers) {
+            try {
+                committer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        // 아직 커밋하지 못한 요청은 호출한 스레드가 기다리고 있으므로 마저 처리한다
+        List<PendingOrder> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            commit(remaining);
+        }
+    }
+
+    public OrderQuery createOrder(OrderCreateCommand command) {
+        // 호출자가 이미 트랜잭션 안이면(멱등 키 기록 등) 같은 트랜잭션에서 만들어야 하므로 묶지 않는다
+        if (!running || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return orderCommandService.createOrder(command);
+        }
+        PendingOrder pending = new PendingOrder(command, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            return orderCommandService.createOrder(command);
+        }
+        // 넣는 사이에 종료되어 남은 요청을 이미 비웠다면 아무도 꺼내지 않으므로 직접 처리한다.
+        // 꺼내지 못했다면 커밋 스레드나 종료 처리가 가져가 결과를 채운다
+        if (!running && queue.remove(pending)) {
+            return orderCommandService.createOrder(command);
+        }
+        return await(pending);
+    }
+
+    private void run() {
+        List<PendingOrder> batch = new ArrayList<>(properties.maxBatchSize());
+        while (running) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 요청이 올 때까지 기다린 뒤, 그때부터 max-wait 동안 max-batch-size개까지 모은다
+    private void collect(List<PendingOrder> batch) throws InterruptedException {
+        PendingOrder first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + properties.maxWait().toNanos();
+        while (batch.size() < properties.maxBatchSize()) {
+            long remaining = deadline - System.nanoTime();
+            PendingOrder next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<PendingOrder> batch) {
+        batchSizes.record(batch.size());
+        try {
+            if (batch.size() == 1) {
+                createEach(batch);
+                return;
+            }
+
+            List<OrderCreateResult> results;
+            try {
+                results = orderCommandService.createOrders(batch.stream().map(PendingOrder::command).toList());
+            } catch (RuntimeException e) {
+                log.warn("주문 묶음 커밋 실패, 주문마다 다시 처리합니다: size={}", batch.size(), e);
+                createEach(batch);
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                OrderCreateResult result = results.get(i);
+                if (result.isCreated()) {
+                    batch.get(i).result().complete(result.order());
+                } else {
+                    batch.get(i).result().completeExceptionally(result.error());
+                }
+            }
+        } catch (Throwable e) {
+            // Error가 나도 커밋 스레드는 살려 두고, 이 묶음을 기다리는 호출자는 모두 실패로 깨운다
+            log.error("주문 묶음 처리 실패: size={}", batch.size(), e);
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+    }
+
+    private void createEach(List<PendingOrder> batch) {
+        for (PendingOrder pending : batch) {
+            try {
+                pending.result().complete(orderCommandService.createOrder(pending.command()));
+            } catch (Throwable e) {
+                pending.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    private OrderQuery await(PendingOrder pending) {
+        try {
+            return pending.result().get(awaitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주문 생성 대기 중 인터럽트", e);
+        } catch (TimeoutException e) {
+            // 아직 꺼내지 않았으면 빼서 만들지 않는다. 이미 커밋 중이면 늦게라도 만들어질 수 있다
+            if (queue.remove(pending)) {
+                throw new ServiceUnavailableException("주문이 밀려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요");
+            }
+            throw new ServiceUnavailableException("주문 처리가 지연되고 있습니다. 주문 목록에서 생성 여부를 확인한 뒤 다시 시도해 주세요");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record PendingOrder(OrderCreateCommand command, CompletableFuture<OrderQuery> result) {
+    }
+}
@@ -0,0 +1,58 @@
+package kr.minigate.ordersystem.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 로컬 개발용 발행기. 배치마다 한 줄에 이벤트 하나씩 NDJSON 파일 끝에 덧붙인다.
+ */
+public class FileOutboxPublisher implements OutboxPublisher {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxPublisher(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (OutboxMessage message : messages) {
+                    writer.write(toJson(message));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("아웃박스 파일 기록 실패: " + file, e);
+        }
+    }
+
+    private String toJson(OutboxMessage message) throws JsonProcessingException {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("id", message.id());
+        node.put("aggregateType", message.aggregateType());
+        node.put("aggregateId", message.aggregateId());
+        node.put("eventType", message.eventType());
+        node.put("occurredAt", String.valueOf(message.occurredAt()));
+        node.set("payload", objectMapper.readTree(message.payload()));
+        return objectMapper.writeValueAsString(node);
+    }
+}
@@ -0,0 +1,22 @@
+package kr.minigate.ordersystem.infrastructure.outbox;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * 로컬 개발용 발행기. 아웃박스 메시지를 애플리케이션 이벤트로 다시 발행해 같은 프로세스의 리스너가 구독할 수 있게 한다.
+ */
+public class InProcessOutboxPublisher implements OutboxPublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public InProcessOutboxPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        messages.forEach(eventPublisher::publishEvent);
+    }
+}
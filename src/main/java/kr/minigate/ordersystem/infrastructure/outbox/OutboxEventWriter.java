@@ -0,0 +1,47 @@
+package kr.minigate.ordersystem.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.minigate.ordersystem.application.event.DomainEvent;
+import kr.minigate.ordersystem.application.event.ProductBatchEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 명령 서비스가 발행한 도메인 이벤트를 호출한 트랜잭션 안에서 outbox_events에 기록한다.
+ * 명령이 롤백되면 이벤트도 함께 사라지고, 커밋된 이벤트는 릴레이가 빠짐없이 전달한다.
+ */
+@Component
+public class OutboxEventWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void record(DomainEvent event) {
+        outboxEventRepository.save(toOutboxEvent(event));
+    }
+
+    // 상품마다 한 행씩이지만 JDBC 배치 INSERT로 함께 보낸다
+    @EventListener
+    public void record(ProductBatchEvent batch) {
+        outboxEventRepository.saveAll(batch.events().stream().map(this::toOutboxEvent).toList());
+    }
+
+    private OutboxEvent toOutboxEvent(DomainEvent event) {
+        return new OutboxEvent(event.aggregateType(), event.aggregateId(), event.eventType(), serialize(event.payload()));
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패", e);
+        }
+    }
+}
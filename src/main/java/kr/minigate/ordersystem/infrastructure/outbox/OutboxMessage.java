@@ -0,0 +1,24 @@
+package kr.minigate.ordersystem.infrastructure.outbox;
+
+import java.time.LocalDateTime;
+
+// 발행기로 전달되는 아웃박스 이벤트. payload는 이벤트 시점의 조회 모델 JSON
+public record OutboxMessage(
+    Long id,
+    String aggregateType,
+    Long aggregateId,
+    String eventType,
+    String payload,
+    LocalDateTime occurredAt
+) {
+    public static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(
+            event.getId(),
+            event.getAggregateType(),
+            event.getAggregateId(),
+            event.getEventType(),
+            event.getPayload(),
+            event.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package kr.minigate.ordersystem.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트를 외부로 내보낸다. 메시지는 id 순으로 전달되며, 예외를 던지면 같은 배치부터 다시 시도하므로
+ * 구현체는 같은 메시지를 두 번 받을 수 있다고 가정해야 한다 (at-least-once).
+ */
+public interface OutboxPublisher {
+
+    void publish(List<OutboxMessage> messages);
+}
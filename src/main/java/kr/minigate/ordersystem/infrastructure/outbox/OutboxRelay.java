@@ -0,0 +1,72 @@
+package kr.minigate.ordersystem.infrastructure.outbox;
+
+import kr.minigate.ordersystem.config.OutboxProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 발행되지 않은 아웃박스 이벤트를 id 순으로 batch-size 만큼씩 읽어 발행기로 넘기고 발행 완료로 표시한다.
+ * 발행에 실패하면 표시하지 않으므로 다음 주기에 같은 배치부터 다시 전달된다.
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxPublisher outboxPublisher,
+                       TransactionTemplate transactionTemplate,
+                       OutboxProperties properties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxPublisher = outboxPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${ordersystem.outbox.relay-interval:1s}")
+    public void relayScheduled() {
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            log.warn("아웃박스 릴레이 실패, 다음 주기에 다시 시도", e);
+        }
+    }
+
+    // 밀린 이벤트가 없을 때까지 배치 단위로 전달하고 전달한 건수를 반환
+    public int relay() {
+        int relayed = 0;
+        while (true) {
+            List<OutboxEvent> batch = outboxEventRepository.findUnpublished(Limit.of(properties.batchSize()));
+            if (batch.isEmpty()) {
+                return relayed;
+            }
+
+            outboxPublisher.publish(batch.stream().map(OutboxMessage::from).toList());
+            List<Long> ids = batch.stream().map(OutboxEvent::getId).toList();
+            LocalDateTime publishedAt = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markPublished(ids, publishedAt));
+            relayed += batch.size();
+
+            if (batch.size() < properties.batchSize()) {
+                return relayed;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ordersystem.outbox.purge-interval:1h}")
+    public void purgePublished() {
+        LocalDateTime threshold = LocalDateTime.now().minus(properties.retention());
+        Integer purged = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(threshold));
+        if (purged != null && purged > 0) {
+            log.debug("발행 완료된 아웃박스 이벤트 {}건 삭제", purged);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package kr.minigate.ordersystem.infrastructure.payment;
+
+import kr.minigate.ordersystem.application.dto.PaymentQuery;
+
+/**
+ * 외부 결제 게이트웨이. 느리거나 실패할 수 있으므로 요청 스레드가 아닌 결제 작업자에서만 호출한다.
+ * 예외를 던지면 결제는 대기 상태로 남고 재처리 주기에 다시 시도된다.
+ */
+public interface PaymentGateway {
+
+    /**
+     * 결제를 승인한다. idempotencyKey에 대해 멱등이어야 한다.
+     * 같은 키로 다시 호출하면 새로 청구하지 않고 처음 승인 결과(같은 거래 ID)를 돌려준다.
+     * 작업자는 재처리 주기에 같은 결제를 다시 승인 요청하므로 결제 ID로 만든 키를 넘긴다.
+     */
+    PaymentGatewayResult approve(String idempotencyKey, PaymentQuery payment);
+
+    /**
+     * 승인했지만 결제에 반영하지 못한 거래(승인 대기 중 취소된 결제 등)를 취소하거나 환불한다.
+     * 같은 거래 ID로 여러 번 호출해도 한 번만 처리해야 한다.
+     */
+    void voidOrRefund(String transactionId);
+}
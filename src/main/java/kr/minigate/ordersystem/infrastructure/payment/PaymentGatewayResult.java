@@ -0,0 +1,12 @@
+package kr.minigate.ordersystem.infrastructure.payment;
+
+public record PaymentGatewayResult(boolean approved, String transactionId, String declineReason) {
+
+    public static PaymentGatewayResult approved(String transactionId) {
+        return new PaymentGatewayResult(true, transactionId, null);
+    }
+
+    public static PaymentGatewayResult declined(String declineReason) {
+        return new PaymentGatewayResult(false, null, declineReason);
+    }
+}
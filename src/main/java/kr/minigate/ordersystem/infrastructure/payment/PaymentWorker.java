@@ -0,0 +1,148 @@
+package kr.minigate.ordersystem.infrastructure.payment;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.minigate.ordersystem.application.dto.PaymentQuery;
+import kr.minigate.ordersystem.application.event.PaymentEvent;
+import kr.minigate.ordersystem.application.service.PaymentCommandService;
+import kr.minigate.ordersystem.application.service.PaymentQueryService;
+import kr.minigate.ordersystem.config.PaymentAsyncProperties;
+import kr.minigate.ordersystem.domain.PaymentStatus;
+import kr.minigate.ordersystem.domain.repository.PaymentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 대기 중인 결제를 가상 스레드에서 게이트웨이로 승인 요청하고 결과에 따라 결제/주문 상태를 바꾼다.
+ * 게이트웨이 동시 호출 수는 workers, 대기 작업 수는 queue-capacity로 제한한다.
+ * 큐가 가득 차거나 서버가 재시작되어 빠진 결제는 재처리 주기에 다시 등록된다.
+ */
+@Slf4j
+public class PaymentWorker {
+
+    private final PaymentGateway paymentGateway;
+    private final PaymentCommandService paymentCommandService;
+    private final PaymentQueryService paymentQueryService;
+    private final PaymentRepository paymentRepository;
+    private final PaymentAsyncProperties properties;
+    private final Semaphore gatewaySlots;
+    private final Semaphore queueSlots;
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("payment-worker-", 0).factory());
+
+    public PaymentWorker(PaymentGateway paymentGateway,
+                         PaymentCommandService paymentCommandService,
+                         PaymentQueryService paymentQueryService,
+                         PaymentRepository paymentRepository,
+                         PaymentAsyncProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.paymentGateway = paymentGateway;
+        this.paymentCommandService = paymentCommandService;
+        this.paymentQueryService = paymentQueryService;
+        this.paymentRepository = paymentRepository;
+        this.properties = properties;
+        this.gatewaySlots = new Semaphore(properties.workers());
+        this.queueSlots = new Semaphore(properties.queueCapacity());
+        Gauge.builder("ordersystem.payment.jobs.queued", queued, Set::size).register(meterRegistry);
+    }
+
+    // 결제 요청이 커밋된 뒤에만 작업을 등록한다
+    @TransactionalEventListener
+    public void onPaymentEvent(PaymentEvent event) {
+        if (event.type() == PaymentEvent.Type.REQUESTED) {
+            submit(event.payment().id());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ordersystem.payment.async.sweep-interval:30s}")
+    public void resubmitStalePayments() {
+        LocalDateTime threshold = LocalDateTime.now().minus(properties.staleAfter());
+        List<Long> stalePaymentIds = paymentRepository.findIdsByStatusCreatedBefore(
+            PaymentStatus.PENDING, threshold, Limit.of(properties.queueCapacity()));
+        stalePaymentIds.forEach(this::submit);
+    }
+
+    public boolean submit(Long paymentId) {
+        if (!queued.add(paymentId)) {
+            return false;
+        }
+        // 크기 확인과 등록 사이에 다른 요청이 끼어들지 않도록 자리를 먼저 원자적으로 잡는다
+        if (!queueSlots.tryAcquire()) {
+            queued.remove(paymentId);
+            log.warn("결제 작업 큐가 가득 참, 재처리 주기에 다시 시도: paymentId={}", paymentId);
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    gatewaySlots.acquire();
+                    try {
+                        process(paymentId);
+                    } finally {
+                        gatewaySlots.release();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    log.warn("결제 처리 실패, 재처리 주기에 다시 시도: paymentId={}", paymentId, e);
+                } finally {
+                    release(paymentId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            release(paymentId);
+            return false;
+        }
+        return true;
+    }
+
+    private void release(Long paymentId) {
+        queued.remove(paymentId);
+        queueSlots.release();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void process(Long paymentId) {
+        PaymentQuery payment = paymentQueryService.getPayment(paymentId);
+        if (payment.status() != PaymentStatus.PENDING) {
+            return;
+        }
+
+        // 게이트웨이 호출 동안에는 트랜잭션과 커넥션을 잡지 않는다.
+        // 결제 ID를 멱등 키로 넘기므로 반영 전에 실패해 다시 요청해도 두 번 청구되지 않는다
+        PaymentGatewayResult result = paymentGateway.approve(idempotencyKey(paymentId), payment);
+        if (result.approved()) {
+            PaymentQuery applied = paymentCommandService.completePayment(paymentId, result.transactionId());
+            // 승인 대기 중 취소되어 반영되지 않은 승인은 되돌린다
+            if (!result.transactionId().equals(applied.transactionId())) {
+                log.info("반영되지 않은 승인 취소: paymentId={}, status={}, transactionId={}",
+                    paymentId, applied.status(), result.transactionId());
+                paymentGateway.voidOrRefund(result.transactionId());
+            }
+        } else {
+            log.info("결제 거절: paymentId={}, reason={}", paymentId, result.declineReason());
+            paymentCommandService.failPayment(paymentId);
+        }
+    }
+
+    private static String idempotencyKey(Long paymentId) {
+        return "payment-" + paymentId;
+    }
+}
@@ -0,0 +1,51 @@
+package kr.minigate.ordersystem.infrastructure.payment;
+
+import kr.minigate.ordersystem.application.dto.PaymentQuery;
+import kr.minigate.ordersystem.domain.Payment;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 개발용 게이트웨이. 설정한 지연 후 모든 결제를 승인한다.
+ * 같은 멱등 키로 다시 승인 요청하면 처음 발급한 거래 ID를 돌려준다.
+ */
+@Slf4j
+public class StubPaymentGateway implements PaymentGateway {
+
+    private final Duration latency;
+    private final Map<String, PaymentGatewayResult> approvals = new ConcurrentHashMap<>();
+    private final Set<String> voided = ConcurrentHashMap.newKeySet();
+
+    public StubPaymentGateway(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public PaymentGatewayResult approve(String idempotencyKey, PaymentQuery payment) {
+        PaymentGatewayResult previous = approvals.get(idempotencyKey);
+        if (previous != null) {
+            return previous;
+        }
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("결제 게이트웨이 호출이 중단되었습니다", e);
+            }
+        }
+        return approvals.computeIfAbsent(idempotencyKey,
+            key -> PaymentGatewayResult.approved(Payment.generateTransactionId()));
+    }
+
+    @Override
+    public void voidOrRefund(String transactionId) {
+        if (voided.add(transactionId)) {
+            log.info("승인 취소: transactionId={}", transactionId);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package kr.minigate.ordersystem.infrastructure.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.minigate.ordersystem.config.ConflictRetryProperties;
+import kr.minigate.ordersystem.domain.exception.ConflictException;
+import kr.minigate.ordersystem.infrastructure.metrics.ServiceMetricsAspect;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커맨드 서비스 호출이 낙관적 잠금(@Version) 충돌로 실패하면 새 트랜잭션으로 다시 실행한다.
+ * 트랜잭션 어드바이스 바깥에서 감싸므로 재시도마다 엔티티를 새로 읽어 다시 판단한다.
+ * 간격은 initial-backoff부터 multiplier배씩 늘리되 max-backoff를 넘지 않고, 같은 엔티티를 다시 동시에 건드리지 않도록 지터를 준다.
+ * 호출자가 이미 트랜잭션 안이면 그 트랜잭션 전체가 롤백 대상이므로 재시도하지 않는다.
+ * 서비스 메트릭 바로 안쪽, 트랜잭션 어드바이스 바깥에서 실행된다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(ServiceMetricsAspect.ORDER + 1)
+public class ConflictRetryAspect {
+
+    static final String CONFLICT_COUNTER_NAME = "ordersystem.optimistic.lock.conflicts";
+
+    private final ConflictRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ConflictRetryAspect(ConflictRetryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * kr.minigate.ordersystem.application.service.*CommandServiceImpl.*(..))")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        long backoffNanos = properties.initialBackoff().toNanos();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                boolean exhausted = attempt >= properties.maxAttempts();
+                record(joinPoint, e, exhausted);
+                if (exhausted) {
+                    log.warn("낙관적 잠금 충돌 재시도 초과: method={}, entity={}, id={}",
+                        joinPoint.getSignature().toShortString(), entity(e), identifier(e));
+                    throw new ConflictException("다른 요청이 먼저 변경했습니다. 다시 시도해 주세요");
+                }
+                TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(backoffNanos / 2, backoffNanos + 1));
+                backoffNanos = Math.min((long) (backoffNanos * properties.multiplier()),
+                    properties.maxBackoff().toNanos());
+            }
+        }
+    }
+
+    // entity 태그로 충돌이 몰리는 엔티티 종류를, 재시도 초과 로그로 개별 ID를 확인한다
+    private void record(ProceedingJoinPoint joinPoint, OptimisticLockingFailureException e, boolean exhausted) {
+        Counter.builder(CONFLICT_COUNTER_NAME)
+            .description("낙관적 잠금 충돌 수")
+            .tag("service", AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName())
+            .tag("method", joinPoint.getSignature().getName())
+            .tag("entity", entity(e))
+            .tag("result", exhausted ? "exhausted" : "retried")
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private static String entity(OptimisticLockingFailureException e) {
+        if (e instanceof ObjectOptimisticLockingFailureException objectFailure
+            && objectFailure.getPersistentClassName() != null) {
+            String className = objectFailure.getPersistentClassName();
+            return className.substring(className.lastIndexOf('.') + 1);
+        }
+        return "unknown";
+    }
+
+    private static Object identifier(OptimisticLockingFailureException e) {
+        return e instanceof ObjectOptimisticLockingFailureException objectFailure ? objectFailure.getIdentifier() : null;
+    }
+}
@@ -0,0 +1,218 @@
+package kr.minigate.ordersystem.infrastructure.search;
+
+import kr.minigate.ordersystem.application.dto.ProductQuery;
+import kr.minigate.ordersystem.application.event.ProductBatchEvent;
+import kr.minigate.ordersystem.domain.Product;
+import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 이름/설명 전문 검색 인덱스 (Lucene, 메모리). 한국어는 Nori 형태소 분석기로 나누고,
+ * 이름의 마지막 단어는 접두어로도 찾아 입력 중인 검색어에 대응한다.
+ * 시작할 때 DB에서 다시 만들고, 이후에는 커밋된 상품 생성/수정 이벤트로 갱신한다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    static final String ID = "id";
+    static final String NAME = "name";
+    static final String DESCRIPTION = "description";
+    static final String NAME_PREFIX = "name_prefix";
+
+    private static final float NAME_BOOST = 3f;
+    private static final float PREFIX_BOOST = 2f;
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final Analyzer analyzer;
+    private final QueryBuilder queryBuilder;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public ProductSearchIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+        // 접두어 필드는 형태소 분석 없이 공백/기호 단위로만 나눠 입력 중인 음절("갤럭")도 그대로 비교한다
+        this.analyzer = new PerFieldAnalyzerWrapper(new KoreanAnalyzer(), Map.of(NAME_PREFIX, new StandardAnalyzer()));
+        this.queryBuilder = new QueryBuilder(analyzer);
+        try {
+            this.writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int indexed = 0;
+        List<Product> products = productRepository.findLatest(Limit.of(REBUILD_BATCH_SIZE));
+        while (!products.isEmpty()) {
+            products.stream().map(ProductQuery::from).forEach(this::write);
+            indexed += products.size();
+            if (products.size() < REBUILD_BATCH_SIZE) {
+                break;
+            }
+            Product last = products.get(products.size() - 1);
+            products = productRepository.findOlderThan(last.getCreatedAt(), last.getId(), Limit.of(REBUILD_BATCH_SIZE));
+        }
+        refresh();
+        log.info("상품 검색 인덱스 생성 완료: {}건", indexed);
+    }
+
+    // 일괄 등록/수정도 문서를 모두 쓴 뒤 한 번만 갱신한다
+    @TransactionalEventListener
+    public void onProductEvent(ProductBatchEvent event) {
+        index(event.products());
+    }
+
+    void index(ProductQuery product) {
+        index(List.of(product));
+    }
+
+    void index(List<ProductQuery> products) {
+        products.forEach(this::write);
+        refresh();
+    }
+
+    // 점수(BM25) 순 상품 ID. 이름 일치가 설명 일치보다 높게 매겨진다
+    public List<Long> search(String keyword, int limit) {
+        Query query = buildQuery(keyword);
+        if (query == null) {
+            return List.of();
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] hits = searcher.search(query, limit).scoreDocs;
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> productIds = new ArrayList<>(hits.length);
+                for (ScoreDoc hit : hits) {
+                    productIds.add(Long.valueOf(storedFields.document(hit.doc).get(ID)));
+                }
+                return productIds;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        analyzer.close();
+    }
+
+    Query buildQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        addShould(query, queryBuilder.createBooleanQuery(NAME, keyword, Occur.MUST), NAME_BOOST);
+        addShould(query, queryBuilder.createBooleanQuery(DESCRIPTION, keyword, Occur.MUST), 1f);
+        addShould(query, prefixQuery(keyword), PREFIX_BOOST);
+        BooleanQuery built = query.build();
+        return built.clauses().isEmpty() ? null : built;
+    }
+
+    // 앞 단어는 완전 일치, 마지막 단어는 접두어 일치 ("갤럭시 s2" -> 갤럭시 AND s2*)
+    private Query prefixQuery(String keyword) {
+        List<String> words = analyze(NAME_PREFIX, keyword);
+        if (words.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (int i = 0; i < words.size() - 1; i++) {
+            query.add(new TermQuery(new Term(NAME_PREFIX, words.get(i))), Occur.MUST);
+        }
+        query.add(new PrefixQuery(new Term(NAME_PREFIX, words.get(words.size() - 1))), Occur.MUST);
+        return query.build();
+    }
+
+    private void addShould(BooleanQuery.Builder query, Query clause, float boost) {
+        if (clause != null) {
+            query.add(boost == 1f ? clause : new BoostQuery(clause, boost), Occur.SHOULD);
+        }
+    }
+
+    private List<String> analyze(String field, String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream tokens = analyzer.tokenStream(field, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                terms.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private void write(ProductQuery product) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(product.id()), Field.Store.YES));
+        document.add(new TextField(NAME, product.name(), Field.Store.NO));
+        document.add(new TextField(NAME_PREFIX, product.name(), Field.Store.NO));
+        if (product.description() != null) {
+            document.add(new TextField(DESCRIPTION, product.description(), Field.Store.NO));
+        }
+        try {
+            writer.updateDocument(new Term(ID, String.valueOf(product.id())), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 방금 쓴 문서가 다음 검색부터 보이도록 기다린다
+    private void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package kr.minigate.ordersystem.infrastructure.sse;
+
+import kr.minigate.ordersystem.config.OrderStreamProperties.DropPolicy;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 구독자별 송신 대기열. 발행하는 쪽은 절대 막히지 않고, 가득 차면 정책에 따라 버리거나 구독을 끊는다.
+ * 버린 건수는 다음 송신 전에 한 번 알려 클라이언트가 주문을 다시 조회하도록 한다.
+ */
+class BoundedEventBuffer<T> {
+
+    private final BlockingQueue<T> queue;
+    private final DropPolicy dropPolicy;
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    BoundedEventBuffer(int capacity, DropPolicy dropPolicy) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.dropPolicy = dropPolicy;
+    }
+
+    // false면 DISCONNECT 정책으로 구독을 끊어야 한다
+    boolean offer(T event) {
+        if (queue.offer(event)) {
+            return true;
+        }
+        switch (dropPolicy) {
+            case DROP_NEWEST -> dropped.incrementAndGet();
+            case DROP_OLDEST -> {
+                while (!queue.offer(event)) {
+                    if (queue.poll() != null) {
+                        dropped.incrementAndGet();
+                    }
+                }
+            }
+            case DISCONNECT -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    T take() throws InterruptedException {
+        return queue.take();
+    }
+
+    int drainDroppedCount() {
+        return dropped.getAndSet(0);
+    }
+
+    int size() {
+        return queue.size();
+    }
+}
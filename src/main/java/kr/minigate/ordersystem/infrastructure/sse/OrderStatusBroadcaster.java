@@ -0,0 +1,101 @@
+package kr.minigate.ordersystem.infrastructure.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.minigate.ordersystem.application.dto.OrderQuery;
+import kr.minigate.ordersystem.application.event.OrderEvent;
+import kr.minigate.ordersystem.config.OrderStreamProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 커밋된 주문 상태 변경(상태 변경, 취소)을 SSE 구독자에게 전달한다.
+ * 구독자마다 크기가 정해진 버퍼와 전용 송신 가상 스레드를 두어, 느린 구독자는 자기 버퍼에서만 이벤트를 잃는다.
+ */
+@Slf4j
+@Component
+public class OrderStatusBroadcaster {
+
+    private final OrderStreamProperties properties;
+    private final Set<OrderStatusSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Counter droppedCounter;
+    private final Counter disconnectedCounter;
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("order-stream-", 0).factory());
+
+    public OrderStatusBroadcaster(OrderStreamProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.droppedCounter = meterRegistry.counter("ordersystem.order.stream.dropped");
+        this.disconnectedCounter = meterRegistry.counter("ordersystem.order.stream.overflow.disconnects");
+        Gauge.builder("ordersystem.order.stream.subscribers", subscriptions, Set::size).register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long memberId) {
+        if (subscriptions.size() >= properties.maxSubscribers()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "주문 상태 구독자 수 초과");
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        OrderStatusSubscription subscription = new OrderStatusSubscription(memberId, emitter, properties,
+            droppedCounter::increment);
+        subscriptions.add(subscription);
+
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(subscription));
+        senders.execute(subscription::sendLoop);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onOrderEvent(OrderEvent event) {
+        if (event.type() == OrderEvent.Type.CREATED || subscriptions.isEmpty()) {
+            return;
+        }
+        OrderQuery order = event.order();
+        broadcast(new OrderStatusMessage(order.id(), order.memberId(), order.status(), LocalDateTime.now()));
+    }
+
+    void broadcast(OrderStatusMessage message) {
+        for (OrderStatusSubscription subscription : subscriptions) {
+            if (!subscription.accepts(message)) {
+                continue;
+            }
+            if (!subscription.offer(message) && !subscription.isClosed()) {
+                // DISCONNECT 정책: 밀린 구독자를 끊으면 클라이언트가 재접속 후 주문을 다시 조회한다
+                log.debug("주문 상태 구독자 버퍼 초과로 연결 종료");
+                disconnectedCounter.increment();
+                remove(subscription);
+            }
+        }
+    }
+
+    int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(this::remove);
+        senders.shutdownNow();
+    }
+
+    private void remove(OrderStatusSubscription subscription) {
+        if (subscriptions.remove(subscription)) {
+            subscription.close();
+            subscription.complete();
+        }
+    }
+}
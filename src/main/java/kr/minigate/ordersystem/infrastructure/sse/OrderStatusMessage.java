@@ -0,0 +1,9 @@
+package kr.minigate.ordersystem.infrastructure.sse;
+
+import kr.minigate.ordersystem.domain.OrderStatus;
+
+import java.time.LocalDateTime;
+
+// SSE로 전달하는 주문 상태 변경. 상세 정보가 필요하면 클라이언트가 주문 조회 API를 호출한다
+public record OrderStatusMessage(Long orderId, Long memberId, OrderStatus status, LocalDateTime occurredAt) {
+}
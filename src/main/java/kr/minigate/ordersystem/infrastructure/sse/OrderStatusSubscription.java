@@ -0,0 +1,86 @@
+package kr.minigate.ordersystem.infrastructure.sse;
+
+import kr.minigate.ordersystem.config.OrderStreamProperties;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+
+// 구독자 하나. 전용 가상 스레드가 버퍼에서 꺼내 보내므로 느린 클라이언트가 다른 구독자나 명령 트랜잭션을 막지 않는다
+class OrderStatusSubscription {
+
+    static final String STATUS_EVENT = "order-status";
+    static final String DROPPED_EVENT = "dropped";
+
+    private final Long memberId;
+    private final SseEmitter emitter;
+    private final BoundedEventBuffer<OrderStatusMessage> buffer;
+    private final IntConsumer droppedListener;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Thread sender;
+
+    OrderStatusSubscription(Long memberId, SseEmitter emitter, OrderStreamProperties properties,
+                            IntConsumer droppedListener) {
+        this.memberId = memberId;
+        this.emitter = emitter;
+        this.buffer = new BoundedEventBuffer<>(properties.bufferSize(), properties.dropPolicy());
+        this.droppedListener = droppedListener;
+    }
+
+    boolean accepts(OrderStatusMessage message) {
+        return memberId == null || memberId.equals(message.memberId());
+    }
+
+    // 버퍼가 가득 차 DISCONNECT 정책이 적용되면 false
+    boolean offer(OrderStatusMessage message) {
+        return !closed.get() && buffer.offer(message);
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            Thread current = sender;
+            if (current != null) {
+                current.interrupt();
+            }
+        }
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    void complete() {
+        try {
+            emitter.complete();
+        } catch (IllegalStateException e) {
+            // 이미 끝난 응답
+        }
+    }
+
+    void sendLoop() {
+        sender = Thread.currentThread();
+        try {
+            while (!closed.get()) {
+                OrderStatusMessage message = buffer.take();
+                int dropped = buffer.drainDroppedCount();
+                if (dropped > 0) {
+                    droppedListener.accept(dropped);
+                    emitter.send(SseEmitter.event().name(DROPPED_EVENT).data(Map.of("count", dropped)));
+                }
+                emitter.send(SseEmitter.event()
+                    .name(STATUS_EVENT)
+                    .id(String.valueOf(message.orderId()))
+                    .data(message));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 끊김
+            emitter.completeWithError(e);
+        } finally {
+            closed.set(true);
+        }
+    }
+}
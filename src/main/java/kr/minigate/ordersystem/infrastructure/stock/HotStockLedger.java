@@ -0,0 +1,96 @@
+package kr.minigate.ordersystem.infrastructure.stock;
+
+import kr.minigate.ordersystem.config.StockLedgerProperties;
+import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 상품의 재고를 메모리에서 관리하고, 순변화량만 주기적으로 products 테이블에 반영한다.
+ * 지정된 상품은 최초 접근 시 DB 재고를 읽어 오며 이후로는 메모리가 기준이 된다.
+ * 따라서 반영 주기 동안 조회 API의 재고 값은 메모리보다 늦을 수 있다.
+ */
+@Slf4j
+public class HotStockLedger {
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StockLedgerProperties properties;
+    private final Set<Long> hotProductIds;
+    private final Map<Long, StripedStockCounter> counters = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("stock-ledger-flusher").daemon().factory());
+
+    public HotStockLedger(ProductRepository productRepository,
+                          TransactionTemplate transactionTemplate,
+                          StockLedgerProperties properties) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.hotProductIds = Set.copyOf(properties.hotProductIds());
+    }
+
+    @PostConstruct
+    public void start() {
+        long interval = properties.flushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flush();
+    }
+
+    public boolean isHot(Long productId) {
+        return hotProductIds.contains(productId);
+    }
+
+    public boolean tryDecrease(Long productId, int quantity) {
+        StripedStockCounter counter = counter(productId);
+        return counter != null && counter.tryDecrease(quantity);
+    }
+
+    public void increase(Long productId, int quantity) {
+        StripedStockCounter counter = counter(productId);
+        if (counter != null) {
+            counter.increase(quantity);
+        }
+    }
+
+    public void flush() {
+        counters.forEach((productId, counter) -> {
+            long delta = counter.pendingDelta();
+            if (delta == 0) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                productRepository.increaseStock(productId, Math.toIntExact(delta)));
+            counter.markFlushed(delta);
+        });
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("재고 원장 반영에 실패했습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    private StripedStockCounter counter(Long productId) {
+        // 존재하지 않는 상품은 캐싱하지 않는다 (computeIfAbsent가 null이면 저장하지 않음)
+        return counters.computeIfAbsent(productId, id -> productRepository.findStockById(id)
+            .map(stock -> new StripedStockCounter(stock, properties.stripes()))
+            .orElse(null));
+    }
+}
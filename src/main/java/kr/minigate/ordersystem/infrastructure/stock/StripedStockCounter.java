@@ -0,0 +1,87 @@
+package kr.minigate.ordersystem.infrastructure.stock;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 한 상품의 재고를 여러 스트라이프로 나눠 보관하는 카운터.
+ * 스레드마다 다른 스트라이프에서 CAS로 차감하므로 단일 행/단일 변수 경합이 생기지 않는다.
+ */
+final class StripedStockCounter {
+
+    // 스트라이프 간 false sharing 방지를 위해 128바이트 간격으로 배치
+    private static final int PADDING = 16;
+
+    private final int stripes;
+    private final AtomicLongArray cells;
+    private long flushed;
+
+    StripedStockCounter(long initialStock, int stripes) {
+        this.stripes = stripes;
+        this.cells = new AtomicLongArray(stripes * PADDING);
+        this.flushed = initialStock;
+        spread(initialStock);
+    }
+
+    boolean tryDecrease(int quantity) {
+        int start = probe();
+        for (int i = 0; i < stripes; i++) {
+            int index = ((start + i) % stripes) * PADDING;
+            long current;
+            while ((current = cells.get(index)) >= quantity) {
+                if (cells.compareAndSet(index, current, current - quantity)) {
+                    return true;
+                }
+            }
+        }
+        return tryDecreaseAcrossStripes(quantity);
+    }
+
+    void increase(int quantity) {
+        cells.getAndAdd(probe() * PADDING, quantity);
+    }
+
+    // 어느 스트라이프에도 충분한 재고가 없을 때: 모든 스트라이프를 모아 차감한 뒤 다시 분배한다
+    private synchronized boolean tryDecreaseAcrossStripes(int quantity) {
+        long total = drain();
+        boolean enough = total >= quantity;
+        spread(enough ? total - quantity : total);
+        return enough;
+    }
+
+    synchronized long available() {
+        long total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += cells.get(i * PADDING);
+        }
+        return total;
+    }
+
+    // 마지막 반영 이후 순변화량. 반영에 성공한 경우에만 markFlushed로 기준을 옮긴다
+    synchronized long pendingDelta() {
+        return available() - flushed;
+    }
+
+    synchronized void markFlushed(long delta) {
+        flushed += delta;
+    }
+
+    private long drain() {
+        long total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += cells.getAndSet(i * PADDING, 0);
+        }
+        return total;
+    }
+
+    private void spread(long amount) {
+        long share = amount / stripes;
+        long remainder = amount % stripes;
+        for (int i = 0; i < stripes; i++) {
+            cells.getAndAdd(i * PADDING, share + (i < remainder ? 1 : 0));
+        }
+    }
+
+    private int probe() {
+        return (int) (Thread.currentThread().threadId() % stripes);
+    }
+}
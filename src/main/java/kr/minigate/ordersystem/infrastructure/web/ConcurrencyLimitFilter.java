@@ -0,0 +1,81 @@
+package kr.minigate.ordersystem.infrastructure.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 동시에 처리하는 요청 수를 제한한다. 가상 스레드 모드에서는 요청마다 스레드가 생기므로
+ * 허용 수를 커넥션 풀 크기에 맞춰 두면 초과 요청이 커넥션 풀 안에서 오래 기다리다 실패하는 대신 여기서 대기하거나 바로 503을 받는다.
+ * 커넥션을 쓰지 않는 요청은 {@code exempt}로 제외해 허용 수를 차지하지 않게 한다.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int maxConcurrentRequests;
+    private final long acquireTimeoutNanos;
+    private final Predicate<HttpServletRequest> exempt;
+
+    public ConcurrencyLimitFilter(int maxConcurrentRequests, Duration acquireTimeout) {
+        this(maxConcurrentRequests, acquireTimeout, request -> false);
+    }
+
+    public ConcurrencyLimitFilter(int maxConcurrentRequests, Duration acquireTimeout,
+                                  Predicate<HttpServletRequest> exempt) {
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException("동시 요청 허용 수는 1 이상이어야 합니다");
+        }
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.exempt = exempt;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return exempt.test(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            log.debug("동시 요청 한도 초과: {} {}", request.getMethod(), request.getRequestURI());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해 주세요");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -173,6 +173,43 @@ class MemberApiIntegrationTest {
                 .andExpect(jsonPath("$[*].email", containsInAnyOrder("member1@example.com", "member2@example.com")));
     }
 
+    @Test
+    @DisplayName("회원 목록 커서 페이지 조회")
+    void getAllMembers_CursorPaging() throws Exception {
+        // given
+        for (int i = 1; i <= 3; i++) {
+            memberRepository.save(Member.builder()
+                    .name("회원" + i)
+                    .email("member" + i + "@example.com")
+                    .build());
+        }
+
+        // when & then
+        String nextCursor = mockMvc.perform(get("/api/members").param("size", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].name", contains("회원3", "회원2")))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/api/members").param("size", "2").param("cursor", nextCursor))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("회원1"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    @DisplayName("회원 목록 조회 실패 - 잘못된 커서")
+    void getAllMembers_InvalidCursor() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/members").param("cursor", "not-a-cursor"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("회원 목록 조회 - 빈 목록")
     void getAllMembers_EmptyList() throws Exception {
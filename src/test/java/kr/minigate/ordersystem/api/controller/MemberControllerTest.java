@@ -5,6 +5,8 @@ import kr.minigate.ordersystem.application.dto.MemberQuery;
 import kr.minigate.ordersystem.application.dto.MemberUpdateCommand;
 import kr.minigate.ordersystem.application.service.MemberCommandService;
 import kr.minigate.ordersystem.application.service.MemberQueryService;
+import kr.minigate.ordersystem.domain.exception.InvalidRequestException;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -98,7 +100,7 @@ class MemberControllerTest {
             """;
 
         when(memberCommandService.createMember(any(MemberCreateCommand.class)))
-            .thenThrow(new IllegalArgumentException("유효하지 않은 이메일 형식입니다"));
+            .thenThrow(new InvalidRequestException("유효하지 않은 이메일 형식입니다"));
 
         // when & then
         mockMvc.perform(post("/api/members")
@@ -132,7 +134,7 @@ class MemberControllerTest {
     void 회원조회_실패_존재하지_않는_회원() throws Exception {
         // given
         when(memberQueryService.getMember(999L))
-            .thenThrow(new IllegalArgumentException("존재하지 않는 회원입니다"));
+            .thenThrow(new NotFoundException("존재하지 않는 회원입니다"));
 
         // when & then
         mockMvc.perform(get("/api/members/999"))
@@ -110,6 +110,60 @@ class OrderApiIntegrationTest {
                 .andExpect(jsonPath("$.id").exists());
     }
 
+    @Test
+    @DisplayName("주문 생성 재시도 - 같은 Idempotency-Key는 처음 결과를 반환")
+    void createOrder_RetryWithIdempotencyKey_ReturnsFirstResult() throws Exception {
+        // given
+        String idempotencyKey = java.util.UUID.randomUUID().toString();
+        OrderCreateRequest request = new OrderCreateRequest(testMember.getId(),
+                Arrays.asList(new OrderCreateRequest.OrderItemRequest(testProduct1.getId(), 1)));
+        String content = objectMapper.writeValueAsString(request);
+
+        String first = mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long orderId = objectMapper.readTree(first).get("id").asLong();
+
+        // when & then
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(orderId));
+
+        org.assertj.core.api.Assertions.assertThat(orderRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 - 같은 Idempotency-Key로 다른 요청")
+    void createOrder_Fail_IdempotencyKeyReusedWithDifferentRequest() throws Exception {
+        // given
+        String idempotencyKey = java.util.UUID.randomUUID().toString();
+        OrderCreateRequest request = new OrderCreateRequest(testMember.getId(),
+                Arrays.asList(new OrderCreateRequest.OrderItemRequest(testProduct1.getId(), 1)));
+        OrderCreateRequest otherRequest = new OrderCreateRequest(testMember.getId(),
+                Arrays.asList(new OrderCreateRequest.OrderItemRequest(testProduct1.getId(), 2)));
+
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        // when & then
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(otherRequest)))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("주문 생성 실패 - 회원 없음")
     void createOrder_Fail_MemberNotFound() throws Exception {
@@ -178,6 +232,69 @@ class OrderApiIntegrationTest {
                 .andExpect(jsonPath("$.status").value("CONFIRMED"));
     }
 
+    @Test
+    @DisplayName("주문 조회 - 변경이 없으면 304, 취소되거나 회원 이름이 바뀌면 새 본문")
+    void getOrder_ConditionalRequest() throws Exception {
+        // given
+        Order savedOrder = orderRepository.save(Order.builder()
+                .member(testMember)
+                .totalAmount(new BigDecimal("30000"))
+                .build());
+        String eTag = mockMvc.perform(get("/api/orders/{id}", savedOrder.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/api/orders/{id}", savedOrder.getId()).header("If-None-Match", eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(patch("/api/orders/{id}/cancel", savedOrder.getId()))
+                .andExpect(status().isOk());
+        String cancelledETag = mockMvc.perform(get("/api/orders/{id}", savedOrder.getId()).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(put("/api/members/{id}", testMember.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"name": "새이름", "phone": "010-0000-0000", "address": "부산시"}
+                            """))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/orders/{id}", savedOrder.getId()).header("If-None-Match", cancelledETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.memberName").value("새이름"));
+    }
+
+    @Test
+    @DisplayName("주문 조회 - 주문 상품의 재고만 바뀌면 304 유지")
+    void getOrder_ConditionalRequest_StockChangeKeepsETag() throws Exception {
+        // given
+        OrderCreateRequest request = new OrderCreateRequest(testMember.getId(),
+                Arrays.asList(new OrderCreateRequest.OrderItemRequest(testProduct1.getId(), 1)));
+        Long orderId = objectMapper.readTree(mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asLong();
+        String eTag = mockMvc.perform(get("/api/orders/{id}", orderId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when
+        mockMvc.perform(post("/api/products/stock-adjustments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"productId\": %d, \"delta\": 10}]".formatted(testProduct1.getId())))
+                .andExpect(status().isNoContent());
+
+        // then
+        mockMvc.perform(get("/api/orders/{id}", orderId).header("If-None-Match", eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     @DisplayName("주문 조회 실패 - 존재하지 않는 ID")
     void getOrder_Fail_NotFound() throws Exception {
@@ -210,7 +327,7 @@ class OrderApiIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[*].memberId", everyItem(equalTo(testMember.getId().intValue()))))
-                .andExpect(jsonPath("$[*].totalAmount", containsInAnyOrder(10000, 20000)));
+                .andExpect(jsonPath("$[*].totalAmount", containsInAnyOrder(10000.0, 20000.0)));
     }
 
     @Test
@@ -238,6 +355,34 @@ class OrderApiIntegrationTest {
                 .andExpect(jsonPath("$[*].status", everyItem(equalTo("CONFIRMED"))));
     }
 
+    @Test
+    @DisplayName("주문 내보내기 - 상태 필터 NDJSON")
+    void exportOrders_FilterByStatus() throws Exception {
+        // given
+        Order confirmed = orderRepository.save(Order.builder()
+                .member(testMember)
+                .totalAmount(new BigDecimal("15000"))
+                .build());
+        Order cancelled = orderRepository.save(Order.builder()
+                .member(testMember)
+                .totalAmount(new BigDecimal("25000"))
+                .build());
+        cancelled.cancel();
+
+        // when
+        String body = mockMvc.perform(get("/api/orders/export").param("status", "CONFIRMED"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        String[] lines = body.split("\n");
+        org.assertj.core.api.Assertions.assertThat(lines).hasSize(1);
+        org.assertj.core.api.Assertions.assertThat(objectMapper.readTree(lines[0]).get("id").asLong())
+                .isEqualTo(confirmed.getId());
+    }
+
     @Test
     @DisplayName("주문 상태 업데이트 성공")
     void updateOrderStatus_Success() throws Exception {
@@ -257,6 +402,57 @@ class OrderApiIntegrationTest {
                 .andExpect(jsonPath("$.status").value("SHIPPED"));
     }
 
+    @Test
+    @DisplayName("주문 상태 업데이트 실패 - 허용되지 않는 전이")
+    void updateOrderStatus_Fail_InvalidTransition() throws Exception {
+        // given
+        Order order = Order.builder()
+                .member(testMember)
+                .totalAmount(new BigDecimal("30000"))
+                .build();
+        order.cancel();
+        Order savedOrder = orderRepository.save(order);
+
+        // when & then
+        mockMvc.perform(patch("/api/orders/{id}/status", savedOrder.getId())
+                        .param("status", "CONFIRMED"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("invalid_state"));
+    }
+
+    @Test
+    @DisplayName("주문 상태 일괄 변경 - 전이할 수 있는 주문만 바꾸고 나머지는 실패로 응답")
+    void updateOrderStatuses() throws Exception {
+        // given
+        Order confirmed1 = orderRepository.save(Order.builder().member(testMember).totalAmount(new BigDecimal("10000")).build());
+        Order confirmed2 = orderRepository.save(Order.builder().member(testMember).totalAmount(new BigDecimal("10000")).build());
+        Order cancelled = Order.builder().member(testMember).totalAmount(new BigDecimal("10000")).build();
+        cancelled.cancel();
+        cancelled = orderRepository.save(cancelled);
+        String body = "{\"status\":\"SHIPPED\",\"orderIds\":[" + confirmed1.getId() + "," + confirmed2.getId()
+                + "," + cancelled.getId() + ",999999]}";
+
+        // when & then
+        mockMvc.perform(patch("/api/orders/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(4))
+                .andExpect(jsonPath("$.updated").value(2))
+                .andExpect(jsonPath("$.unchanged").value(0))
+                .andExpect(jsonPath("$.failures.length()").value(2))
+                .andExpect(jsonPath("$.failures[0].orderId").value(cancelled.getId()))
+                .andExpect(jsonPath("$.failures[0].code").value("invalid_state"))
+                .andExpect(jsonPath("$.failures[1].code").value("not_found"));
+
+        mockMvc.perform(get("/api/orders/{id}", confirmed1.getId()))
+                .andExpect(jsonPath("$.status").value("SHIPPED"));
+        mockMvc.perform(get("/api/orders/{id}", cancelled.getId()))
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+    }
+
     @Test
     @DisplayName("주문 취소 성공")
     void cancelOrder_Success() throws Exception {
@@ -0,0 +1,168 @@
+package kr.minigate.ordersystem.api.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import kr.minigate.ordersystem.domain.Member;
+import kr.minigate.ordersystem.domain.Product;
+import kr.minigate.ordersystem.domain.repository.MemberRepository;
+import kr.minigate.ordersystem.domain.repository.OrderRepository;
+import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.yml", properties = "ordersystem.order-bulk.chunk-size=2")
+class OrderBulkApiIntegrationTest {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Member member;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .name("일괄회원")
+                .email("bulk-" + System.nanoTime() + "@example.com")
+                .phone("010-1234-5678")
+                .address("서울시 강남구")
+                .build());
+        product = productRepository.save(Product.builder()
+                .name("일괄상품")
+                .description("일괄 주문 테스트")
+                .price(new BigDecimal("10000"))
+                .stock(5)
+                .build());
+    }
+
+    @Test
+    @DisplayName("일괄 주문 - 주문마다 결과 한 줄, 실패한 주문만 빠진다")
+    void createOrders_Ndjson() throws Exception {
+        // given - 정상, 검증 실패, 재고 부족, 정상 (청크 2개)
+        String body = String.join("\n",
+                orderJson(member.getId(), product.getId(), 2),
+                "{\"memberId\":" + member.getId() + ",\"orderItems\":[]}",
+                orderJson(member.getId(), product.getId(), 10),
+                orderJson(member.getId(), product.getId(), 3));
+
+        // when
+        List<String> lines = postBulk(NDJSON, body);
+
+        // then
+        assertThat(lines).hasSize(4);
+        assertThat(lines).extracting(line -> (String) JsonPath.read(line, "$.status"))
+                .containsExactly("CREATED", "FAILED", "FAILED", "CREATED");
+        assertThat((String) JsonPath.read(lines.get(1), "$.code")).isEqualTo("invalid_request");
+        assertThat((String) JsonPath.read(lines.get(2), "$.code")).isEqualTo("insufficient_stock");
+        assertThat((Integer) JsonPath.read(lines.get(3), "$.index")).isEqualTo(3);
+
+        Long orderId = ((Number) JsonPath.read(lines.get(0), "$.order.id")).longValue();
+        assertThat(orderRepository.findById(orderId)).isPresent();
+        assertThat(productRepository.findStockById(product.getId())).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("일괄 주문 - JSON 배열도 받고, 형식이 깨지면 그 앞까지만 처리한다")
+    void createOrders_JsonArray_StopsAtMalformedInput() throws Exception {
+        // given
+        String body = "[" + orderJson(member.getId(), product.getId(), 1) + ","
+                + orderJson(member.getId(), product.getId(), 1) + ", {\"memberId\": }";
+
+        // when
+        List<String> lines = postBulk(MediaType.APPLICATION_JSON, body);
+
+        // then
+        assertThat(lines).hasSize(3);
+        assertThat(lines).extracting(line -> (String) JsonPath.read(line, "$.status"))
+                .containsExactly("CREATED", "CREATED", "FAILED");
+        assertThat((String) JsonPath.read(lines.get(2), "$.code")).isEqualTo("invalid_request");
+        assertThat(productRepository.findStockById(product.getId())).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("일괄 주문 - null이나 타입이 다른 주문은 그 주문만 실패로 기록하고 계속 처리한다")
+    void createOrders_NullAndMismatchedElements() throws Exception {
+        // given - 정상, null, null 상품, 타입 오류, 정상
+        String body = "[" + orderJson(member.getId(), product.getId(), 1) + ", null, "
+                + "{\"memberId\":" + member.getId() + ",\"orderItems\":[null]}, "
+                + "{\"memberId\":\"abc\",\"orderItems\":[]}, "
+                + orderJson(member.getId(), product.getId(), 1) + "]";
+
+        // when
+        List<String> lines = postBulk(MediaType.APPLICATION_JSON, body);
+
+        // then
+        assertThat(lines).hasSize(5);
+        assertThat(lines).extracting(line -> (String) JsonPath.read(line, "$.status"))
+                .containsExactly("CREATED", "FAILED", "FAILED", "FAILED", "CREATED");
+        assertThat(lines.subList(1, 4)).extracting(line -> (String) JsonPath.read(line, "$.code"))
+                .containsOnly("invalid_request");
+        assertThat((Integer) JsonPath.read(lines.get(4), "$.index")).isEqualTo(4);
+        assertThat(productRepository.findStockById(product.getId())).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("일괄 주문 - NDJSON의 null 줄도 그 주문만 실패로 기록한다")
+    void createOrders_Ndjson_NullLine() throws Exception {
+        // given
+        String body = String.join("\n",
+                orderJson(member.getId(), product.getId(), 1),
+                "null",
+                orderJson(member.getId(), product.getId(), 1));
+
+        // when
+        List<String> lines = postBulk(NDJSON, body);
+
+        // then
+        assertThat(lines).extracting(line -> (String) JsonPath.read(line, "$.status"))
+                .containsExactly("CREATED", "FAILED", "CREATED");
+        assertThat((String) JsonPath.read(lines.get(1), "$.code")).isEqualTo("invalid_request");
+    }
+
+    private List<String> postBulk(MediaType contentType, String body) throws Exception {
+        String response = mockMvc.perform(post("/api/orders/bulk")
+                        .contentType(contentType)
+                        .content(body))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return response.lines().toList();
+    }
+
+    private String orderJson(Long memberId, Long productId, int quantity) {
+        return "{\"memberId\":" + memberId + ",\"orderItems\":[{\"productId\":" + productId
+                + ",\"quantity\":" + quantity + "}]}";
+    }
+}
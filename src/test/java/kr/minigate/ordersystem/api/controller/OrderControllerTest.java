@@ -1,10 +1,15 @@
 package kr.minigate.ordersystem.api.controller;
 
+import kr.minigate.ordersystem.application.dto.CursorPage;
 import kr.minigate.ordersystem.application.dto.OrderCreateCommand;
 import kr.minigate.ordersystem.application.dto.OrderQuery;
 import kr.minigate.ordersystem.application.service.OrderCommandService;
 import kr.minigate.ordersystem.application.service.OrderQueryService;
 import kr.minigate.ordersystem.domain.OrderStatus;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
+import kr.minigate.ordersystem.infrastructure.idempotency.IdempotencyHandler;
+import kr.minigate.ordersystem.infrastructure.sse.OrderStatusBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -15,9 +20,14 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -35,6 +45,19 @@ class OrderControllerTest {
     @MockBean
     private OrderQueryService orderQueryService;
 
+    @MockBean
+    private IdempotencyHandler idempotencyHandler;
+
+    @MockBean
+    private OrderStatusBroadcaster orderStatusBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        // Idempotency-Key 처리는 위임만 하도록 설정
+        when(idempotencyHandler.execute(any(), any(), any(), any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+    }
+
     @Test
     void 주문생성_성공() throws Exception {
         // given
@@ -176,7 +199,7 @@ class OrderControllerTest {
             """;
 
         when(orderCommandService.createOrder(any(OrderCreateCommand.class)))
-            .thenThrow(new IllegalArgumentException("존재하지 않는 회원입니다"));
+            .thenThrow(new NotFoundException("존재하지 않는 회원입니다"));
 
         // when & then
         mockMvc.perform(post("/api/orders")
@@ -208,16 +231,59 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.status").value("CONFIRMED"));
     }
 
+    @Test
+    void 주문조회_변경없으면_주문을_읽지_않고_304() throws Exception {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123456000);
+        when(orderQueryService.getOrderLastModified(1L)).thenReturn(Optional.of(updatedAt));
+        when(orderQueryService.getOrder(1L)).thenReturn(new OrderQuery(
+            1L, 1L, "홍길동", new BigDecimal("1200000"), OrderStatus.CONFIRMED, List.of(), LocalDateTime.now()));
+        String eTag = mockMvc.perform(get("/api/orders/1").header("If-None-Match", "W/\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/api/orders/1").header("If-None-Match", eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(orderQueryService, times(1)).getOrder(1L);
+    }
+
+    @Test
+    void 주문조회_수정되면_새_본문() throws Exception {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123456000);
+        when(orderQueryService.getOrderLastModified(1L)).thenReturn(Optional.of(updatedAt));
+        when(orderQueryService.getOrder(1L)).thenReturn(new OrderQuery(
+            1L, 1L, "홍길동", new BigDecimal("1200000"), OrderStatus.CONFIRMED, List.of(), LocalDateTime.now()));
+        String eTag = mockMvc.perform(get("/api/orders/1"))
+                .andReturn().getResponse().getHeader("ETag");
+        when(orderQueryService.getOrderLastModified(1L)).thenReturn(Optional.of(updatedAt.plusNanos(1000)));
+        when(orderQueryService.getOrder(1L)).thenReturn(new OrderQuery(
+            1L, 1L, "홍길동", new BigDecimal("1200000"), OrderStatus.CANCELLED, List.of(), LocalDateTime.now()));
+
+        // when & then
+        mockMvc.perform(get("/api/orders/1").header("If-None-Match", eTag))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+    }
+
     @Test
     void 주문조회_실패_존재하지_않는_주문() throws Exception {
         // given
         when(orderQueryService.getOrder(999L))
-            .thenThrow(new IllegalArgumentException("존재하지 않는 주문입니다"));
+            .thenThrow(new NotFoundException("존재하지 않는 주문입니다"));
 
         // when & then
         mockMvc.perform(get("/api/orders/999"))
                 .andDo(print())
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("not_found"))
+                .andExpect(jsonPath("$.detail").value("존재하지 않는 주문입니다"));
     }
 
     @Test
@@ -228,8 +294,8 @@ class OrderControllerTest {
                 List.of(), LocalDateTime.now())
         );
 
-        when(orderQueryService.getOrdersByMemberId(1L))
-            .thenReturn(mockResponse);
+        when(orderQueryService.getOrdersByMemberId(1L, null, null))
+            .thenReturn(new CursorPage<>(mockResponse, null));
 
         // when & then
         mockMvc.perform(get("/api/orders").param("memberId", "1"))
@@ -281,7 +347,7 @@ class OrderControllerTest {
     @Test
     void 주문목록조회_실패_서버_오류() throws Exception {
         // given
-        when(orderQueryService.getOrdersByMemberId(500L))
+        when(orderQueryService.getOrdersByMemberId(500L, null, null))
             .thenThrow(new RuntimeException("서버 내부 오류"));
 
         // when & then
@@ -0,0 +1,91 @@
+package kr.minigate.ordersystem.api.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.minigate.ordersystem.domain.Member;
+import kr.minigate.ordersystem.domain.Product;
+import kr.minigate.ordersystem.domain.repository.MemberRepository;
+import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.yml", properties = {
+    "ordersystem.order-group-commit.enabled=true",
+    "ordersystem.order-group-commit.max-wait=50ms",
+    "ordersystem.order-group-commit.max-batch-size=8"
+})
+class OrderGroupCommitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("묶음 커밋 - 동시 주문은 묶어서 커밋하고 재고가 부족한 주문만 실패한다")
+    void createOrder_GroupCommit() throws Exception {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .name("묶음회원")
+                .email("group-" + System.nanoTime() + "@example.com")
+                .phone("010-1234-5678")
+                .address("서울시 강남구")
+                .build());
+        Product product = productRepository.save(Product.builder()
+                .name("묶음상품")
+                .description("묶음 커밋 테스트")
+                .price(new BigDecimal("10000"))
+                .stock(6)
+                .build());
+        String body = "{\"memberId\":" + member.getId() + ",\"orderItems\":[{\"productId\":" + product.getId()
+                + ",\"quantity\":1}]}";
+
+        // when - 재고 6개에 주문 8건
+        List<Future<Integer>> statuses = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 8; i++) {
+                statuses.add(callers.submit(() -> mockMvc.perform(post("/api/orders")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                        .andReturn().getResponse().getStatus()));
+            }
+        }
+
+        // then
+        List<Integer> results = new ArrayList<>();
+        for (Future<Integer> status : statuses) {
+            results.add(status.get());
+        }
+        assertThat(results).filteredOn(status -> status == 201).hasSize(6);
+        assertThat(results).filteredOn(status -> status == 400).hasSize(2);
+        assertThat(productRepository.findStockById(product.getId())).hasValue(0);
+        assertThat(meterRegistry.get("ordersystem.order.group_commit.batch_size").summary().max())
+                .isGreaterThan(1);
+    }
+}
@@ -0,0 +1,98 @@
+package kr.minigate.ordersystem.api.controller;
+
+import kr.minigate.ordersystem.domain.Member;
+import kr.minigate.ordersystem.domain.Order;
+import kr.minigate.ordersystem.domain.repository.MemberRepository;
+import kr.minigate.ordersystem.domain.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.yml")
+class OrderStatusStreamIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Order myOrder;
+    private Order otherOrder;
+
+    @BeforeEach
+    void setUp() {
+        myOrder = orderRepository.save(Order.builder()
+                .member(saveMember("stream-me"))
+                .totalAmount(new BigDecimal("10000"))
+                .build());
+        otherOrder = orderRepository.save(Order.builder()
+                .member(saveMember("stream-other"))
+                .totalAmount(new BigDecimal("20000"))
+                .build());
+    }
+
+    @Test
+    @DisplayName("주문 상태 스트림 - 커밋된 상태 변경 중 구독한 회원의 주문만 전달")
+    void streamOrderStatus_FiltersByMember() throws Exception {
+        // given
+        MvcResult stream = mockMvc.perform(get("/api/orders/stream")
+                        .param("memberId", String.valueOf(myOrder.getMember().getId())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        mockMvc.perform(patch("/api/orders/{id}/status", otherOrder.getId()).param("status", "SHIPPED"))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/orders/{id}/status", myOrder.getId()).param("status", "SHIPPED"))
+                .andExpect(status().isOk());
+
+        // then
+        String body = awaitContent(stream.getResponse(), "\"orderId\":" + myOrder.getId());
+        assertThat(body).contains("event:order-status");
+        assertThat(body).contains("id:" + myOrder.getId());
+        assertThat(body).contains("\"status\":\"SHIPPED\"");
+        assertThat(body).doesNotContain("\"orderId\":" + otherOrder.getId() + ",");
+    }
+
+    private Member saveMember(String prefix) {
+        return memberRepository.save(Member.builder()
+                .name("테스트회원")
+                .email(prefix + "-" + System.nanoTime() + "@example.com")
+                .phone("010-1234-5678")
+                .address("서울시 강남구")
+                .build());
+    }
+
+    private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            String content = response.getContentAsString();
+            if (content.contains(expected)) {
+                return content;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("스트림에서 이벤트를 받지 못했습니다: " + response.getContentAsString());
+    }
+}
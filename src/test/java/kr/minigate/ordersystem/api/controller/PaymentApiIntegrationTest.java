@@ -92,6 +92,31 @@ class PaymentApiIntegrationTest {
                 .andExpect(jsonPath("$.id").exists());
     }
 
+    @Test
+    @DisplayName("결제 생성 재시도 - 같은 Idempotency-Key는 처음 결과를 반환")
+    void createPayment_RetryWithIdempotencyKey_ReturnsFirstResult() throws Exception {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        String content = objectMapper.writeValueAsString(new PaymentCreateRequest(testOrder.getId(), PaymentMethod.CARD));
+
+        String first = mockMvc.perform(post("/api/payments")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        // when & then
+        mockMvc.perform(post("/api/payments")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(objectMapper.readTree(first).get("id").asLong()))
+                .andExpect(jsonPath("$.transactionId").value(objectMapper.readTree(first).get("transactionId").asText()));
+    }
+
     @Test
     @DisplayName("결제 생성 실패 - 주문 없음")
     void createPayment_Fail_OrderNotFound() throws Exception {
@@ -242,7 +267,7 @@ class PaymentApiIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[*].status", everyItem(equalTo("COMPLETED"))))
-                .andExpect(jsonPath("$[*].amount", containsInAnyOrder(50000, 30000)));
+                .andExpect(jsonPath("$[*].amount", containsInAnyOrder(50000.0, 30000.0)));
     }
 
     @Test
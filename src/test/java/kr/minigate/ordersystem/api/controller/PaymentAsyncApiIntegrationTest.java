@@ -0,0 +1,102 @@
+package kr.minigate.ordersystem.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.minigate.ordersystem.api.request.PaymentCreateRequest;
+import kr.minigate.ordersystem.domain.*;
+import kr.minigate.ordersystem.domain.repository.MemberRepository;
+import kr.minigate.ordersystem.domain.repository.OrderRepository;
+import kr.minigate.ordersystem.domain.repository.PaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+    "ordersystem.payment.async.enabled=true",
+    "ordersystem.payment.async.gateway-stub-latency=0ms"
+})
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.yml")
+class PaymentAsyncApiIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Order testOrder;
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository.deleteAll();
+        orderRepository.deleteAll();
+        memberRepository.deleteAll();
+
+        Member testMember = memberRepository.save(Member.builder()
+                .name("테스트회원")
+                .email("async@example.com")
+                .phone("010-1234-5678")
+                .address("서울시 강남구")
+                .build());
+
+        testOrder = orderRepository.save(Order.builder()
+                .member(testMember)
+                .totalAmount(new BigDecimal("50000"))
+                .build());
+    }
+
+    @Test
+    @DisplayName("비동기 결제 - 대기 상태로 202 응답 후 작업자가 승인")
+    void createPayment_Async_AcceptedThenCompleted() throws Exception {
+        // given
+        PaymentCreateRequest request = new PaymentCreateRequest(testOrder.getId(), PaymentMethod.CARD);
+
+        // when
+        mockMvc.perform(post("/api/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.transactionId").doesNotExist());
+
+        // then
+        Payment payment = awaitProcessed(testOrder.getId());
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+        assertThat(payment.getTransactionId()).startsWith("TXN_");
+    }
+
+    private Payment awaitProcessed(Long orderId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            Payment payment = paymentRepository.findByOrderId(orderId).orElseThrow();
+            if (payment.getStatus() != PaymentStatus.PENDING) {
+                return payment;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("결제가 대기 상태에서 벗어나지 않았습니다");
+    }
+}
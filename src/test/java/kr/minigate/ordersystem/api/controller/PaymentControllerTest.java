@@ -6,6 +6,9 @@ import kr.minigate.ordersystem.application.service.PaymentCommandService;
 import kr.minigate.ordersystem.application.service.PaymentQueryService;
 import kr.minigate.ordersystem.domain.PaymentMethod;
 import kr.minigate.ordersystem.domain.PaymentStatus;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
+import kr.minigate.ordersystem.infrastructure.idempotency.IdempotencyHandler;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -16,6 +19,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -36,6 +40,16 @@ class PaymentControllerTest {
     @MockBean
     private PaymentQueryService paymentQueryService;
 
+    @MockBean
+    private IdempotencyHandler idempotencyHandler;
+
+    @BeforeEach
+    void setUp() {
+        // Idempotency-Key 처리는 위임만 하도록 설정
+        when(idempotencyHandler.execute(any(), any(), any(), any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+    }
+
     @Test
     void 결제처리_성공_카드결제() throws Exception {
         // given
@@ -147,7 +161,7 @@ class PaymentControllerTest {
             """;
 
         when(paymentCommandService.processPayment(any(PaymentCreateCommand.class)))
-            .thenThrow(new IllegalArgumentException("존재하지 않는 주문입니다"));
+            .thenThrow(new NotFoundException("존재하지 않는 주문입니다"));
 
         // when & then
         mockMvc.perform(post("/api/payments")
@@ -184,7 +198,7 @@ class PaymentControllerTest {
     void 결제조회_실패_존재하지_않는_결제() throws Exception {
         // given
         when(paymentQueryService.getPayment(999L))
-            .thenThrow(new IllegalArgumentException("존재하지 않는 결제입니다"));
+            .thenThrow(new NotFoundException("존재하지 않는 결제입니다"));
 
         // when & then
         mockMvc.perform(get("/api/payments/999"))
@@ -217,7 +231,7 @@ class PaymentControllerTest {
     void 주문별_결제조회_실패_존재하지_않는_주문() throws Exception {
         // given
         when(paymentQueryService.getPaymentByOrderId(999L))
-            .thenThrow(new IllegalArgumentException("존재하지 않는 주문입니다"));
+            .thenThrow(new NotFoundException("존재하지 않는 주문입니다"));
 
         // when & then
         mockMvc.perform(get("/api/payments/order/999"))
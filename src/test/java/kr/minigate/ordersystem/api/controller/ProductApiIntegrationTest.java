@@ -1,42 +1,53 @@
 package kr.minigate.ordersystem.api.controller;
 
+import com.jayway.jsonpath.JsonPath;
+import kr.minigate.ordersystem.application.service.StockService;
+import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import kr.minigate.ordersystem.infrastructure.catalog.ProductCatalog;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItems;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.yml")
 class ProductApiIntegrationTest {
 
     @Autowired
     private MockMvc mockMvc;
 
-    @Test
-    void 상품등록_성공() throws Exception {
-        // given
-        String productJson = """
-            {
-                "name": "아이폰 15",
-                "description": "애플 스마트폰",
-                "price": 1200000,
-                "stock": 10
-            }
-            """;
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCatalog productCatalog;
 
+    @Test
+    @DisplayName("상품 등록 성공")
+    void createProduct_Success() throws Exception {
         // when & then
         mockMvc.perform(post("/api/products")
                 .contentType(MediaType.APPLICATION_JSON)
-                .content(productJson))
+                .content(productJson("아이폰 15")))
                 .andDo(print())
                 .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.id").exists())
                 .andExpect(jsonPath("$.name").value("아이폰 15"))
                 .andExpect(jsonPath("$.description").value("애플 스마트폰"))
                 .andExpect(jsonPath("$.price").value(1200000))
@@ -44,7 +55,8 @@ class ProductApiIntegrationTest {
     }
 
     @Test
-    void 상품등록_실패_이름없음() throws Exception {
+    @DisplayName("상품 등록 실패 - 이름 없음")
+    void createProduct_Fail_NoName() throws Exception {
         // given
         String productJson = """
             {
@@ -63,7 +75,8 @@ class ProductApiIntegrationTest {
     }
 
     @Test
-    void 상품등록_실패_가격_음수() throws Exception {
+    @DisplayName("상품 등록 실패 - 가격 음수")
+    void createProduct_Fail_NegativePrice() throws Exception {
         // given
         String productJson = """
             {
@@ -83,23 +96,177 @@ class ProductApiIntegrationTest {
     }
 
     @Test
-    void 상품목록조회_성공() throws Exception {
+    @DisplayName("등록한 상품이 바로 목록 맨 앞에 보인다")
+    void getAllProducts_IncludesCreatedProduct() throws Exception {
+        // given
+        createProduct("갤럭시 S24");
+        Long latestId = createProduct("갤럭시 Z 플립");
+
         // when & then
-        mockMvc.perform(get("/api/products"))
+        mockMvc.perform(get("/api/products").param("size", "1"))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$[0].name").value("아이폰 15"))
-                .andExpect(jsonPath("$[1].name").value("갤럭시 S24"));
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists(PageHeaders.NEXT_CURSOR))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(latestId))
+                .andExpect(jsonPath("$[0].name").value("갤럭시 Z 플립"));
     }
 
     @Test
-    void 상품조회_성공() throws Exception {
+    @DisplayName("상품 조회 - 변경이 없으면 304, 재고가 바뀌면 새 ETag")
+    void getProduct_ConditionalRequest() throws Exception {
+        // given
+        Long productId = createProduct("맥북 프로");
+        String eTag = mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("맥북 프로"))
+                .andReturn().getResponse().getHeader("ETag");
+
         // when & then
-        mockMvc.perform(get("/api/products/1"))
+        mockMvc.perform(get("/api/products/{id}", productId).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        stockService.decreaseStock(productId, 3);
+        productCatalog.refreshStocks();
+
+        String changedETag = mockMvc.perform(get("/api/products/{id}", productId).header("If-None-Match", eTag))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(1))
-                .andExpect(jsonPath("$.name").value("아이폰 15"));
+                .andExpect(jsonPath("$.stock").value(7))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(changedETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("상품 조회 실패 - 존재하지 않는 상품")
+    void getProduct_Fail_NotFound() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/products/{id}", 999999L))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("상품 일괄 등록/수정 - 수정한 값이 조회, 검색, 캐시에 반영된다")
+    void upsertProducts_Success() throws Exception {
+        // given
+        Long productId = createProduct("에어팟 프로");
+        mockMvc.perform(get("/api/products/{id}", productId)).andExpect(status().isOk());
+        String body = """
+            [
+                {"id": %d, "name": "에어팟 프로 2", "description": "애플 무선 이어폰", "price": 359000, "stock": 0},
+                {"name": "버즈 3 프로", "description": "삼성 무선 이어폰", "price": 319000, "stock": 25}
+            ]
+            """.formatted(productId);
+
+        // when & then
+        String response = mockMvc.perform(put("/api/products/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(productId))
+                .andExpect(jsonPath("$[0].name").value("에어팟 프로 2"))
+                .andExpect(jsonPath("$[0].stock").value(0))
+                .andExpect(jsonPath("$[1].id").exists())
+                .andExpect(jsonPath("$[1].name").value("버즈 3 프로"))
+                .andReturn().getResponse().getContentAsString();
+        Long createdId = ((Number) JsonPath.read(response, "$[1].id")).longValue();
+
+        mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(jsonPath("$.name").value("에어팟 프로 2"))
+                .andExpect(jsonPath("$.price").value(359000))
+                .andExpect(jsonPath("$.stock").value(0));
+        mockMvc.perform(get("/api/products/{id}", createdId))
+                .andExpect(jsonPath("$.stock").value(25));
+        assertThat(productRepository.findById(productId).orElseThrow().getName()).isEqualTo("에어팟 프로 2");
+        mockMvc.perform(get("/api/products/search").param("q", "무선 이어폰"))
+                .andExpect(jsonPath("$[*].id", hasItems(productId.intValue(), createdId.intValue())));
+    }
+
+    @Test
+    @DisplayName("상품 일괄 수정 실패 - 없는 상품이 있으면 아무것도 반영하지 않는다")
+    void upsertProducts_Fail_NotFound() throws Exception {
+        // given
+        Long productId = createProduct("아이패드");
+        String body = """
+            [
+                {"id": %d, "name": "아이패드 프로", "price": 1500000, "stock": 3},
+                {"id": 999999, "name": "없는 상품", "price": 1000, "stock": 1}
+            ]
+            """.formatted(productId);
+
+        // when & then
+        mockMvc.perform(put("/api/products/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("not_found"));
+        mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(jsonPath("$.name").value("아이패드"))
+                .andExpect(jsonPath("$.stock").value(10));
+    }
+
+    @Test
+    @DisplayName("상품 일괄 등록 실패 - 검증 오류")
+    void upsertProducts_Fail_Validation() throws Exception {
+        // when & then
+        mockMvc.perform(put("/api/products/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"name\": \"\", \"price\": 1000, \"stock\": -1}]"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("재고 일괄 증감 - 하나라도 부족하면 전체를 되돌린다")
+    void adjustStocks() throws Exception {
+        // given
+        Long first = createProduct("갤럭시 탭");
+        Long second = createProduct("갤럭시 워치");
+        mockMvc.perform(get("/api/products/{id}", first)).andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(post("/api/products/stock-adjustments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"productId\": %d, \"delta\": 5}, {\"productId\": %d, \"delta\": -4}]"
+                    .formatted(first, second)))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+        productCatalog.refreshStocks();
+        mockMvc.perform(get("/api/products/{id}", first)).andExpect(jsonPath("$.stock").value(15));
+        mockMvc.perform(get("/api/products/{id}", second)).andExpect(jsonPath("$.stock").value(6));
+
+        mockMvc.perform(post("/api/products/stock-adjustments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"productId\": %d, \"delta\": 5}, {\"productId\": %d, \"delta\": -7}]"
+                    .formatted(first, second)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("insufficient_stock"));
+        assertThat(productRepository.findStockById(first)).hasValue(15);
+        assertThat(productRepository.findStockById(second)).hasValue(6);
+    }
+
+    private Long createProduct(String name) throws Exception {
+        String response = mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(productJson(name)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return ((Number) JsonPath.read(response, "$.id")).longValue();
+    }
+
+    private String productJson(String name) {
+        return """
+            {
+                "name": "%s",
+                "description": "애플 스마트폰",
+                "price": 1200000,
+                "stock": 10
+            }
+            """.formatted(name);
     }
-}
\ No newline at end of file
+}
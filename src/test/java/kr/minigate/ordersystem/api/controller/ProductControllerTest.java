@@ -1,11 +1,26 @@
 package kr.minigate.ordersystem.api.controller;
 
+import kr.minigate.ordersystem.application.dto.CursorPage;
+import kr.minigate.ordersystem.application.dto.ProductCreateCommand;
+import kr.minigate.ordersystem.application.dto.ProductQuery;
+import kr.minigate.ordersystem.application.service.ProductCommandService;
+import kr.minigate.ordersystem.application.service.ProductQueryService;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
@@ -16,9 +31,17 @@ class ProductControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @MockBean
+    private ProductCommandService productCommandService;
+
+    @MockBean
+    private ProductQueryService productQueryService;
+
     @Test
     void 상품등록_성공() throws Exception {
         // given
+        when(productCommandService.createProduct(any(ProductCreateCommand.class)))
+            .thenReturn(iphone(1L));
         String productJson = """
             {
                 "name": "아이폰 15",
@@ -84,10 +107,17 @@ class ProductControllerTest {
 
     @Test
     void 상품목록조회_성공() throws Exception {
+        // given
+        when(productQueryService.getAllProducts(null, null)).thenReturn(new CursorPage<>(List.of(
+            iphone(1L),
+            new ProductQuery(2L, "갤럭시 S24", "삼성 스마트폰", new BigDecimal("1100000"), 5, LocalDateTime.now())
+        ), null));
+
         // when & then
         mockMvc.perform(get("/api/products"))
                 .andDo(print())
                 .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].name").value("아이폰 15"))
                 .andExpect(jsonPath("$[1].name").value("갤럭시 S24"));
@@ -95,26 +125,47 @@ class ProductControllerTest {
 
     @Test
     void 상품조회_성공() throws Exception {
+        // given
+        when(productQueryService.getProduct(1L)).thenReturn(iphone(1L));
+
         // when & then
         mockMvc.perform(get("/api/products/1"))
                 .andDo(print())
                 .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.name").value("아이폰 15"));
     }
 
+    @Test
+    void 상품조회_변경없으면_304() throws Exception {
+        // given
+        when(productQueryService.getProduct(1L)).thenReturn(iphone(1L));
+        String eTag = mockMvc.perform(get("/api/products/1"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/api/products/1").header("If-None-Match", eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Test
     void 상품등록_실패_서버_오류() throws Exception {
         // given
         String productJson = """
             {
-                "name": "서버오류상품",
-                "description": "서버 오류 테스트",
+                "name": "아이폰 15",
+                "description": "애플 스마트폰",
                 "price": 1000000,
                 "stock": 10
             }
             """;
 
+        when(productCommandService.createProduct(any(ProductCreateCommand.class)))
+            .thenThrow(new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류"));
+
         // when & then
         mockMvc.perform(post("/api/products")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -125,17 +176,45 @@ class ProductControllerTest {
 
     @Test
     void 상품조회_실패_존재하지_않는_상품() throws Exception {
+        // given
+        when(productQueryService.getProduct(999L))
+            .thenThrow(new NotFoundException("존재하지 않는 상품입니다"));
+
         // when & then
         mockMvc.perform(get("/api/products/999"))
                 .andDo(print())
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isNotFound());
     }
 
     @Test
     void 상품조회_실패_서버_오류() throws Exception {
+        // given
+        when(productQueryService.getProduct(500L))
+            .thenThrow(new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류"));
+
         // when & then
         mockMvc.perform(get("/api/products/500"))
                 .andDo(print())
                 .andExpect(status().isInternalServerError());
     }
-}
\ No newline at end of file
+
+    @Test
+    void 상품검색_성공() throws Exception {
+        // given
+        when(productQueryService.searchProducts("아이폰", 10)).thenReturn(List.of(
+            new ProductQuery(2L, "아이폰 15", "애플 스마트폰", new BigDecimal("1200000"), 10, LocalDateTime.now()),
+            new ProductQuery(7L, "아이폰 케이스", "실리콘 케이스", new BigDecimal("30000"), 100, LocalDateTime.now())
+        ));
+
+        // when & then
+        mockMvc.perform(get("/api/products/search").param("q", "아이폰").param("size", "10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[1].name").value("아이폰 케이스"));
+    }
+
+    private ProductQuery iphone(Long id) {
+        return new ProductQuery(id, "아이폰 15", "애플 스마트폰", new BigDecimal("1200000"), 10, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,55 @@
+package kr.minigate.ordersystem.api.controller;
+
+import kr.minigate.ordersystem.application.dto.ProductCreateCommand;
+import kr.minigate.ordersystem.application.dto.ProductQuery;
+import kr.minigate.ordersystem.application.service.ProductCommandService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.yml")
+class ProductSearchApiIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductCommandService productCommandService;
+
+    @Test
+    @DisplayName("상품 검색 - 등록이 커밋되면 인덱스에 반영되어 관련도 순으로 조회")
+    void searchProducts_IndexedOnCreate() throws Exception {
+        // given
+        ProductQuery speaker = productCommandService.createProduct(
+            new ProductCreateCommand("블루투스 스피커", "휴대용 방수 스피커", new BigDecimal("89000"), 20));
+        ProductQuery cable = productCommandService.createProduct(
+            new ProductCreateCommand("충전 케이블", "블루투스 스피커 호환 USB-C 케이블", new BigDecimal("9000"), 200));
+
+        // when & then
+        mockMvc.perform(get("/api/products/search").param("q", "블루투스 스피커"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(speaker.id()))
+                .andExpect(jsonPath("$[0].stock").value(20))
+                .andExpect(jsonPath("$[1].id").value(cable.id()));
+
+        // 입력 중인 마지막 단어는 상품 이름에서만 접두어로 찾는다
+        mockMvc.perform(get("/api/products/search").param("q", "블루투스 스피"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(speaker.id()));
+    }
+}
@@ -3,6 +3,7 @@ package kr.minigate.ordersystem.application.service;
 import kr.minigate.ordersystem.application.dto.MemberCreateCommand;
 import kr.minigate.ordersystem.application.dto.MemberQuery;
 import kr.minigate.ordersystem.domain.Member;
+import kr.minigate.ordersystem.domain.exception.DuplicateEmailException;
 import kr.minigate.ordersystem.domain.repository.MemberRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -65,7 +66,7 @@ class MemberCommandServiceTest {
 
         // when & then
         assertThatThrownBy(() -> memberCommandService.createMember(command))
-            .isInstanceOf(IllegalArgumentException.class)
+            .isInstanceOf(DuplicateEmailException.class)
             .hasMessage("이미 존재하는 이메일입니다");
 
         then(memberRepository).should().existsByEmail(command.email());
@@ -1,14 +1,17 @@
 package kr.minigate.ordersystem.application.service;
 
+import kr.minigate.ordersystem.application.dto.CursorPage;
 import kr.minigate.ordersystem.application.dto.MemberQuery;
-import kr.minigate.ordersystem.domain.Member;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
 import kr.minigate.ordersystem.domain.repository.MemberRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,36 +31,34 @@ class MemberQueryServiceTest {
     @Test
     void 모든_회원_조회_성공() {
         // given
-        List<Member> members = List.of(
-            Member.builder().name("홍길동").email("hong@test.com").phone("010-1234-5678").address("서울시 강남구").build(),
-            Member.builder().name("김영희").email("kim@test.com").phone("010-9876-5432").address("부산시 해운대구").build()
+        LocalDateTime now = LocalDateTime.now();
+        List<MemberQuery> members = List.of(
+            new MemberQuery(2L, "홍길동", "hong@test.com", "010-1234-5678", "서울시 강남구", now),
+            new MemberQuery(1L, "김영희", "kim@test.com", "010-9876-5432", "부산시 해운대구", now.minusMinutes(1))
         );
 
-        given(memberRepository.findAll()).willReturn(members);
+        given(memberRepository.findLatestQueries(Limit.of(CursorPage.DEFAULT_SIZE + 1))).willReturn(members);
 
         // when
-        List<MemberQuery> result = memberQueryService.getAllMembers();
+        CursorPage<MemberQuery> result = memberQueryService.getAllMembers(null, null);
 
         // then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).name()).isEqualTo("홍길동");
-        assertThat(result.get(1).name()).isEqualTo("김영희");
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.content().get(0).name()).isEqualTo("홍길동");
+        assertThat(result.content().get(1).name()).isEqualTo("김영희");
+        assertThat(result.hasNext()).isFalse();
 
-        then(memberRepository).should().findAll();
+        then(memberRepository).should().findLatestQueries(Limit.of(CursorPage.DEFAULT_SIZE + 1));
     }
 
     @Test
     void 회원_조회_성공() {
         // given
         Long memberId = 1L;
-        Member member = Member.builder()
-            .name("홍길동")
-            .email("hong@test.com")
-            .phone("010-1234-5678")
-            .address("서울시 강남구")
-            .build();
+        MemberQuery member = new MemberQuery(memberId, "홍길동", "hong@test.com", "010-1234-5678", "서울시 강남구",
+            LocalDateTime.now());
 
-        given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+        given(memberRepository.findQueryById(memberId)).willReturn(Optional.of(member));
 
         // when
         MemberQuery result = memberQueryService.getMember(memberId);
@@ -68,7 +69,7 @@ class MemberQueryServiceTest {
         assertThat(result.phone()).isEqualTo("010-1234-5678");
         assertThat(result.address()).isEqualTo("서울시 강남구");
 
-        then(memberRepository).should().findById(memberId);
+        then(memberRepository).should().findQueryById(memberId);
     }
 
     @Test
@@ -76,13 +77,13 @@ class MemberQueryServiceTest {
         // given
         Long memberId = 999L;
 
-        given(memberRepository.findById(memberId)).willReturn(Optional.empty());
+        given(memberRepository.findQueryById(memberId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> memberQueryService.getMember(memberId))
-            .isInstanceOf(IllegalArgumentException.class)
+            .isInstanceOf(NotFoundException.class)
             .hasMessage("존재하지 않는 회원입니다");
 
-        then(memberRepository).should().findById(memberId);
+        then(memberRepository).should().findQueryById(memberId);
     }
 }
\ No newline at end of file
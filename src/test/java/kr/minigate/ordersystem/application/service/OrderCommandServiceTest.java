@@ -1,11 +1,20 @@
 package kr.minigate.ordersystem.application.service;
 
 import kr.minigate.ordersystem.application.dto.OrderCreateCommand;
+import kr.minigate.ordersystem.application.dto.OrderCreateResult;
 import kr.minigate.ordersystem.application.dto.OrderQuery;
+import kr.minigate.ordersystem.application.dto.OrderStatusRow;
+import kr.minigate.ordersystem.application.dto.OrderStatusTransitionResult;
+import kr.minigate.ordersystem.application.event.OrderEvent;
 import kr.minigate.ordersystem.domain.Member;
 import kr.minigate.ordersystem.domain.Order;
 import kr.minigate.ordersystem.domain.OrderItem;
+import kr.minigate.ordersystem.domain.OrderStatus;
 import kr.minigate.ordersystem.domain.Product;
+import kr.minigate.ordersystem.domain.exception.ErrorCode;
+import kr.minigate.ordersystem.domain.exception.InsufficientStockException;
+import kr.minigate.ordersystem.domain.exception.InvalidStateException;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
 import kr.minigate.ordersystem.domain.repository.MemberRepository;
 import kr.minigate.ordersystem.domain.repository.OrderRepository;
 import kr.minigate.ordersystem.domain.repository.ProductRepository;
@@ -14,15 +23,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.auditing.DateTimeProvider;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class OrderCommandServiceTest {
@@ -36,6 +51,15 @@ class OrderCommandServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private StockService stockService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DateTimeProvider dateTimeProvider;
+
     @InjectMocks
     private OrderCommandServiceImpl orderCommandService;
 
@@ -59,6 +83,8 @@ class OrderCommandServiceTest {
             .price(new BigDecimal("1200000"))
             .stock(10)
             .build();
+        product = org.mockito.Mockito.spy(product);
+        given(product.getId()).willReturn(productId);
 
         OrderCreateCommand command = new OrderCreateCommand(
             memberId,
@@ -83,7 +109,8 @@ class OrderCommandServiceTest {
         given(savedOrder.getId()).willReturn(1L);
 
         given(memberRepository.findById(memberId)).willReturn(Optional.of(memberWithId));
-        given(productRepository.findById(productId)).willReturn(Optional.of(product));
+        given(stockService.decreaseStock(productId, quantity)).willReturn(true);
+        given(productRepository.findAllById(Set.of(productId))).willReturn(List.of(product));
         given(orderRepository.save(any(Order.class))).willReturn(savedOrder);
 
         // when
@@ -95,8 +122,10 @@ class OrderCommandServiceTest {
         assertThat(result.totalAmount()).isEqualByComparingTo(new BigDecimal("2400000"));
 
         then(memberRepository).should().findById(memberId);
-        then(productRepository).should().findById(productId);
+        then(stockService).should().decreaseStock(productId, quantity);
+        then(productRepository).should().findAllById(Set.of(productId));
         then(orderRepository).should().save(any(Order.class));
+        then(eventPublisher).should().publishEvent(new OrderEvent(OrderEvent.Type.CREATED, result));
     }
 
     @Test
@@ -112,7 +141,7 @@ class OrderCommandServiceTest {
 
         // when & then
         assertThatThrownBy(() -> orderCommandService.createOrder(command))
-            .isInstanceOf(IllegalArgumentException.class)
+            .isInstanceOf(NotFoundException.class)
             .hasMessage("존재하지 않는 회원입니다");
 
         then(memberRepository).should().findById(memberId);
@@ -139,15 +168,158 @@ class OrderCommandServiceTest {
         );
 
         given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+        given(stockService.decreaseStock(productId, 2)).willReturn(false);
         given(productRepository.findById(productId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> orderCommandService.createOrder(command))
-            .isInstanceOf(IllegalArgumentException.class)
+            .isInstanceOf(NotFoundException.class)
             .hasMessage("존재하지 않는 상품입니다");
 
         then(memberRepository).should().findById(memberId);
+        then(stockService).should().decreaseStock(productId, 2);
         then(productRepository).should().findById(productId);
         then(orderRepository).shouldHaveNoInteractions();
     }
-}
\ No newline at end of file
+
+    @Test
+    void 주문생성_실패_동일상품_합산수량_재고부족() {
+        // given
+        Long memberId = 1L;
+        Long productId = 1L;
+
+        Member member = Member.builder()
+            .name("홍길동")
+            .email("hong@test.com")
+            .phone("010-1234-5678")
+            .address("서울시 강남구")
+            .build();
+
+        Product product = Product.builder()
+            .name("아이폰 15")
+            .description("애플 스마트폰")
+            .price(new BigDecimal("1200000"))
+            .stock(5)
+            .build();
+
+        OrderCreateCommand command = new OrderCreateCommand(
+            memberId,
+            List.of(
+                new OrderCreateCommand.OrderItemCommand(productId, 3),
+                new OrderCreateCommand.OrderItemCommand(productId, 3)
+            )
+        );
+
+        given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+        given(stockService.decreaseStock(productId, 6)).willReturn(false);
+        given(productRepository.findById(productId)).willReturn(Optional.of(product));
+
+        // when & then
+        assertThatThrownBy(() -> orderCommandService.createOrder(command))
+            .isInstanceOf(InsufficientStockException.class)
+            .hasMessage("재고가 부족합니다. 상품: 아이폰 15");
+
+        then(stockService).should().decreaseStock(productId, 6);
+        then(orderRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 일괄주문생성_실패한_주문만_제외하고_저장() {
+        // given
+        Member member = org.mockito.Mockito.spy(Member.builder()
+            .name("홍길동")
+            .email("hong@test.com")
+            .phone("010-1234-5678")
+            .address("서울시 강남구")
+            .build());
+        given(member.getId()).willReturn(1L);
+        Product phone = org.mockito.Mockito.spy(Product.builder()
+            .name("아이폰 15").description("애플 스마트폰").price(new BigDecimal("1200000")).stock(10).build());
+        given(phone.getId()).willReturn(10L);
+        Product cable = org.mockito.Mockito.spy(Product.builder()
+            .name("케이블").description("USB-C").price(new BigDecimal("10000")).stock(0).build());
+        given(cable.getId()).willReturn(20L);
+
+        List<OrderCreateCommand> commands = List.of(
+            new OrderCreateCommand(1L, List.of(new OrderCreateCommand.OrderItemCommand(10L, 1))),
+            new OrderCreateCommand(999L, List.of(new OrderCreateCommand.OrderItemCommand(10L, 1))),
+            new OrderCreateCommand(1L, List.of(
+                new OrderCreateCommand.OrderItemCommand(10L, 2),
+                new OrderCreateCommand.OrderItemCommand(20L, 1)))
+        );
+
+        given(memberRepository.findAllById(Set.of(1L, 999L))).willReturn(List.of(member));
+        given(stockService.decreaseStock(10L, 1)).willReturn(true);
+        given(stockService.decreaseStock(10L, 2)).willReturn(true);
+        given(stockService.decreaseStock(20L, 1)).willReturn(false);
+        given(productRepository.findAllById(Set.of(10L, 20L))).willReturn(List.of(phone, cable));
+
+        // when
+        List<OrderCreateResult> results = orderCommandService.createOrders(commands);
+
+        // then
+        assertThat(results).extracting(OrderCreateResult::isCreated).containsExactly(true, false, false);
+        assertThat(results.get(0).order().totalAmount()).isEqualByComparingTo(new BigDecimal("1200000"));
+        assertThat(results.get(1).errorCode()).isEqualTo(ErrorCode.NOT_FOUND);
+        assertThat(results.get(2).errorCode()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK);
+        assertThat(results.get(2).message()).isEqualTo("재고가 부족합니다. 상품: 케이블");
+
+        // 플러시는 재고 선점 전에 청크 전체에서 한 번만 한다
+        then(productRepository).should(times(1)).flush();
+
+        // 실패한 주문이 먼저 선점한 재고는 되돌리고, 성공한 주문만 한 번에 저장한다
+        then(stockService).should().increaseStock(10L, 2);
+        then(orderRepository).should().saveAll(org.mockito.ArgumentMatchers.<List<Order>>argThat(orders -> orders.size() == 1));
+        then(eventPublisher).should().publishEvent(new OrderEvent(OrderEvent.Type.CREATED, results.get(0).order()));
+    }
+
+    @Test
+    void 주문상태변경_실패_허용되지_않는_전이() {
+        // given
+        Order order = Order.builder()
+            .member(Member.builder().name("홍길동").email("hong@test.com").build())
+            .totalAmount(new BigDecimal("10000"))
+            .build();
+        order.updateStatus(OrderStatus.SHIPPED);
+        order.updateStatus(OrderStatus.DELIVERED);
+        given(orderRepository.findWithOrderItemsById(1L)).willReturn(Optional.of(order));
+
+        // when & then
+        assertThatThrownBy(() -> orderCommandService.updateOrderStatus(1L, OrderStatus.CONFIRMED))
+            .isInstanceOf(InvalidStateException.class)
+            .hasMessage("주문 상태를 배송완료에서 주문확정(으)로 바꿀 수 없습니다");
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.DELIVERED);
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 일괄상태변경_전이할_수_있는_주문만_변경() {
+        // given
+        List<Long> ids = List.of(1L, 2L, 3L, 4L, 1L);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        given(dateTimeProvider.getNow()).willReturn(Optional.of(now));
+        given(orderRepository.findStatusRows(List.of(1L, 2L, 3L, 4L))).willReturn(List.of(
+            new OrderStatusRow(1L, OrderStatus.CONFIRMED),
+            new OrderStatusRow(2L, OrderStatus.DELIVERED),
+            new OrderStatusRow(3L, OrderStatus.SHIPPED)));
+        given(orderRepository.updateStatuses(eq(List.of(1L)), eq(Set.of(OrderStatus.CONFIRMED)),
+            eq(OrderStatus.SHIPPED), eq(now))).willReturn(1);
+        OrderQuery shipped = new OrderQuery(1L, 1L, "홍길동", new BigDecimal("10000"), OrderStatus.SHIPPED,
+            LocalDateTime.now());
+        given(orderRepository.findQueriesByIdIn(List.of(1L))).willReturn(List.of(shipped));
+        given(orderRepository.findOrderItemRows(List.of(1L))).willReturn(List.of());
+
+        // when
+        OrderStatusTransitionResult result = orderCommandService.updateOrderStatuses(ids, OrderStatus.SHIPPED);
+
+        // then
+        assertThat(result.requested()).isEqualTo(4);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.unchanged()).isEqualTo(1);
+        assertThat(result.failures()).containsExactly(
+            new OrderStatusTransitionResult.Failure(2L, ErrorCode.INVALID_STATE,
+                "주문 상태를 배송완료에서 배송중(으)로 바꿀 수 없습니다"),
+            new OrderStatusTransitionResult.Failure(4L, ErrorCode.NOT_FOUND, "존재하지 않는 주문입니다"));
+        then(eventPublisher).should().publishEvent(new OrderEvent(OrderEvent.Type.STATUS_CHANGED, shipped));
+    }
+}
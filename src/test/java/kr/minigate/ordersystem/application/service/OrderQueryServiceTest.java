@@ -1,17 +1,21 @@
 package kr.minigate.ordersystem.application.service;
 
+import kr.minigate.ordersystem.application.dto.CursorPage;
+import kr.minigate.ordersystem.application.dto.OrderItemRow;
 import kr.minigate.ordersystem.application.dto.OrderQuery;
-import kr.minigate.ordersystem.domain.Member;
-import kr.minigate.ordersystem.domain.Order;
 import kr.minigate.ordersystem.domain.OrderStatus;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
 import kr.minigate.ordersystem.domain.repository.OrderRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,55 +36,45 @@ class OrderQueryServiceTest {
     void 회원별_주문목록_조회_성공() {
         // given
         Long memberId = 1L;
-        Member member = Member.builder()
-            .name("홍길동")
-            .email("hong@test.com")
-            .phone("010-1234-5678")
-            .address("서울시 강남구")
-            .build();
-
-        List<Order> orders = List.of(
-            Order.builder()
-                .member(member)
-                .totalAmount(new BigDecimal("1200000"))
-                .build(),
-            Order.builder()
-                .member(member)
-                .totalAmount(new BigDecimal("800000"))
-                .build()
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderQuery> orders = List.of(
+            new OrderQuery(2L, memberId, "홍길동", new BigDecimal("1200000"), OrderStatus.CONFIRMED, now),
+            new OrderQuery(1L, memberId, "홍길동", new BigDecimal("800000"), OrderStatus.CONFIRMED, now.minusMinutes(1))
         );
 
-        given(orderRepository.findByMemberIdOrderByCreatedAtDesc(memberId)).willReturn(orders);
+        given(orderRepository.findLatestQueriesByMemberId(memberId, Limit.of(11))).willReturn(orders);
+        given(orderRepository.findOrderItemRows(List.of(2L, 1L))).willReturn(List.of(
+            new OrderItemRow(2L, 10L, 100L, "노트북", 1, new BigDecimal("1200000"), new BigDecimal("1200000")),
+            new OrderItemRow(1L, 11L, 101L, "모니터", 2, new BigDecimal("400000"), new BigDecimal("800000"))
+        ));
 
         // when
-        List<OrderQuery> result = orderQueryService.getOrdersByMemberId(memberId);
+        CursorPage<OrderQuery> result = orderQueryService.getOrdersByMemberId(memberId, null, 10);
 
         // then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).memberName()).isEqualTo("홍길동");
-        assertThat(result.get(0).totalAmount()).isEqualByComparingTo(new BigDecimal("1200000"));
-        assertThat(result.get(1).totalAmount()).isEqualByComparingTo(new BigDecimal("800000"));
-
-        then(orderRepository).should().findByMemberIdOrderByCreatedAtDesc(memberId);
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.content().get(0).memberName()).isEqualTo("홍길동");
+        assertThat(result.content().get(0).totalAmount()).isEqualByComparingTo(new BigDecimal("1200000"));
+        assertThat(result.content().get(0).orderItems()).extracting(OrderQuery.OrderItemQuery::productName)
+            .containsExactly("노트북");
+        assertThat(result.content().get(1).totalAmount()).isEqualByComparingTo(new BigDecimal("800000"));
+        assertThat(result.content().get(1).orderItems()).extracting(OrderQuery.OrderItemQuery::quantity)
+            .containsExactly(2);
+        assertThat(result.hasNext()).isFalse();
+
+        then(orderRepository).should().findLatestQueriesByMemberId(memberId, Limit.of(11));
+        then(orderRepository).should().findOrderItemRows(List.of(2L, 1L));
     }
 
     @Test
     void 주문_조회_성공() {
         // given
         Long orderId = 1L;
-        Member member = Member.builder()
-            .name("홍길동")
-            .email("hong@test.com")
-            .phone("010-1234-5678")
-            .address("서울시 강남구")
-            .build();
-
-        Order order = Order.builder()
-            .member(member)
-            .totalAmount(new BigDecimal("1200000"))
-            .build();
+        OrderQuery order = new OrderQuery(orderId, 1L, "홍길동", new BigDecimal("1200000"), OrderStatus.CONFIRMED,
+            LocalDateTime.now());
 
-        given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+        given(orderRepository.findQueryById(orderId)).willReturn(Optional.of(order));
+        given(orderRepository.findOrderItemRows(List.of(orderId))).willReturn(List.of());
 
         // when
         OrderQuery result = orderQueryService.getOrder(orderId);
@@ -89,8 +83,9 @@ class OrderQueryServiceTest {
         assertThat(result.memberName()).isEqualTo("홍길동");
         assertThat(result.totalAmount()).isEqualByComparingTo(new BigDecimal("1200000"));
         assertThat(result.status()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(result.orderItems()).isEmpty();
 
-        then(orderRepository).should().findById(orderId);
+        then(orderRepository).should().findQueryById(orderId);
     }
 
     @Test
@@ -98,13 +93,34 @@ class OrderQueryServiceTest {
         // given
         Long orderId = 999L;
 
-        given(orderRepository.findById(orderId)).willReturn(Optional.empty());
+        given(orderRepository.findQueryById(orderId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> orderQueryService.getOrder(orderId))
-            .isInstanceOf(IllegalArgumentException.class)
+            .isInstanceOf(NotFoundException.class)
             .hasMessage("존재하지 않는 주문입니다");
 
-        then(orderRepository).should().findById(orderId);
+        then(orderRepository).should().findQueryById(orderId);
+        then(orderRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void 주문_수정시각은_회원과_상품을_포함한_최신값() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(orderRepository.findUpdatedAtsById(1L))
+            .willReturn(Arrays.asList(now.minusDays(1), now, null, now.minusHours(1)));
+
+        // when & then
+        assertThat(orderQueryService.getOrderLastModified(1L)).hasValue(now);
+    }
+
+    @Test
+    void 없는_주문은_수정시각_없음() {
+        // given
+        given(orderRepository.findUpdatedAtsById(999L)).willReturn(List.of());
+
+        // when & then
+        assertThat(orderQueryService.getOrderLastModified(999L)).isEmpty();
     }
-}
\ No newline at end of file
+}
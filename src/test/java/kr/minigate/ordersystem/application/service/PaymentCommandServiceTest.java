@@ -2,7 +2,10 @@ package kr.minigate.ordersystem.application.service;
 
 import kr.minigate.ordersystem.application.dto.PaymentCreateCommand;
 import kr.minigate.ordersystem.application.dto.PaymentQuery;
+import kr.minigate.ordersystem.application.event.PaymentEvent;
 import kr.minigate.ordersystem.domain.*;
+import kr.minigate.ordersystem.domain.exception.DuplicatePaymentException;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
 import kr.minigate.ordersystem.domain.repository.OrderRepository;
 import kr.minigate.ordersystem.domain.repository.PaymentRepository;
 import org.junit.jupiter.api.Test;
@@ -10,6 +13,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -28,6 +33,12 @@ class PaymentCommandServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private StockService stockService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PaymentCommandServiceImpl paymentCommandService;
 
@@ -61,7 +72,7 @@ class PaymentCommandServiceTest {
         given(savedPayment.getId()).willReturn(1L);
 
         given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
-        given(paymentRepository.save(any(Payment.class))).willReturn(savedPayment);
+        given(paymentRepository.saveAndFlush(any(Payment.class))).willReturn(savedPayment);
 
         // when
         PaymentQuery result = paymentCommandService.processPayment(command);
@@ -74,7 +85,7 @@ class PaymentCommandServiceTest {
         assertThat(result.transactionId()).startsWith("TXN_");
 
         then(orderRepository).should().findById(orderId);
-        then(paymentRepository).should().save(any(Payment.class));
+        then(paymentRepository).should().saveAndFlush(any(Payment.class));
     }
 
     @Test
@@ -87,10 +98,125 @@ class PaymentCommandServiceTest {
 
         // when & then
         assertThatThrownBy(() -> paymentCommandService.processPayment(command))
-            .isInstanceOf(IllegalArgumentException.class)
+            .isInstanceOf(NotFoundException.class)
             .hasMessage("존재하지 않는 주문입니다");
 
         then(orderRepository).should().findById(orderId);
         then(paymentRepository).shouldHaveNoInteractions();
     }
-}
\ No newline at end of file
+
+    @Test
+    void 결제처리_실패_동시_결제로_유니크_제약_위반() {
+        // given
+        Long orderId = 1L;
+        PaymentCreateCommand command = new PaymentCreateCommand(orderId, PaymentMethod.CARD);
+
+        Order order = Order.builder()
+            .member(Member.builder().name("홍길동").email("hong@test.com").build())
+            .totalAmount(new BigDecimal("1200000"))
+            .build();
+        order = org.mockito.Mockito.spy(order);
+        given(order.getId()).willReturn(orderId);
+
+        given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+        given(paymentRepository.findByOrderId(orderId)).willReturn(Optional.empty());
+        given(paymentRepository.saveAndFlush(any(Payment.class)))
+            .willThrow(new DataIntegrityViolationException("uk_payments_order_id"));
+
+        // when & then
+        assertThatThrownBy(() -> paymentCommandService.processPayment(command))
+            .isInstanceOf(DuplicatePaymentException.class)
+            .hasMessage("이미 결제된 주문입니다");
+    }
+
+    @Test
+    void 비동기_결제요청_대기상태로_저장하고_이벤트_발행() {
+        // given
+        Long orderId = 1L;
+        PaymentCreateCommand command = new PaymentCreateCommand(orderId, PaymentMethod.CARD);
+        Order order = spyOrder(orderId);
+
+        given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+        given(paymentRepository.findByOrderId(orderId)).willReturn(Optional.empty());
+        given(paymentRepository.saveAndFlush(any(Payment.class))).willAnswer(invocation -> {
+            Payment payment = org.mockito.Mockito.spy(invocation.<Payment>getArgument(0));
+            given(payment.getId()).willReturn(10L);
+            return payment;
+        });
+
+        // when
+        PaymentQuery result = paymentCommandService.requestPayment(command);
+
+        // then
+        assertThat(result.status()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(result.transactionId()).isNull();
+        assertThat(result.amount()).isEqualByComparingTo(new BigDecimal("1200000"));
+        then(eventPublisher).should().publishEvent(new PaymentEvent(PaymentEvent.Type.REQUESTED, result));
+    }
+
+    @Test
+    void 비동기_결제승인_대기중인_결제를_완료() {
+        // given
+        Payment payment = Payment.createPending(spyOrder(1L), PaymentMethod.CARD);
+        given(paymentRepository.findById(10L)).willReturn(Optional.of(payment));
+
+        // when
+        PaymentQuery result = paymentCommandService.completePayment(10L, "TXN_APPROVED");
+
+        // then
+        assertThat(result.status()).isEqualTo(PaymentStatus.COMPLETED);
+        assertThat(result.transactionId()).isEqualTo("TXN_APPROVED");
+    }
+
+    @Test
+    void 비동기_결제승인_이미_취소된_결제는_무시() {
+        // given
+        Payment payment = Payment.createPending(spyOrder(1L), PaymentMethod.CARD);
+        payment.cancel();
+        given(paymentRepository.findById(10L)).willReturn(Optional.of(payment));
+
+        // when
+        PaymentQuery result = paymentCommandService.completePayment(10L, "TXN_APPROVED");
+
+        // then
+        assertThat(result.status()).isEqualTo(PaymentStatus.CANCELLED);
+        assertThat(result.transactionId()).isNull();
+    }
+
+    @Test
+    void 비동기_결제거절_주문취소_재고복원() {
+        // given
+        Product product = org.mockito.Mockito.spy(Product.builder()
+            .name("노트북")
+            .price(new BigDecimal("1200000"))
+            .stock(9)
+            .build());
+        given(product.getId()).willReturn(5L);
+        Order order = spyOrder(1L);
+        order.addOrderItem(OrderItem.builder()
+            .product(product)
+            .quantity(1)
+            .price(new BigDecimal("1200000"))
+            .amount(new BigDecimal("1200000"))
+            .build());
+        Payment payment = Payment.createPending(order, PaymentMethod.CARD);
+        given(paymentRepository.findById(10L)).willReturn(Optional.of(payment));
+
+        // when
+        PaymentQuery result = paymentCommandService.failPayment(10L);
+
+        // then
+        assertThat(result.status()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        then(stockService).should().increaseStock(5L, 1);
+    }
+
+    private Order spyOrder(Long orderId) {
+        Order order = org.mockito.Mockito.spy(Order.builder()
+            .member(Member.builder().name("홍길동").email("hong@test.com").build())
+            .totalAmount(new BigDecimal("1200000"))
+            .build());
+        given(order.getId()).willReturn(orderId);
+        return order;
+    }
+}
@@ -1,7 +1,9 @@
 package kr.minigate.ordersystem.application.service;
 
 import kr.minigate.ordersystem.application.dto.PaymentQuery;
-import kr.minigate.ordersystem.domain.*;
+import kr.minigate.ordersystem.domain.PaymentMethod;
+import kr.minigate.ordersystem.domain.PaymentStatus;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
 import kr.minigate.ordersystem.domain.repository.PaymentRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,6 +12,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -29,30 +32,10 @@ class PaymentQueryServiceTest {
     void 주문별_결제조회_성공() {
         // given
         Long orderId = 1L;
-        Member member = Member.builder()
-            .name("홍길동")
-            .email("hong@test.com")
-            .phone("010-1234-5678")
-            .address("서울시 강남구")
-            .build();
-
-        Order order = Order.builder()
-            .member(member)
-            .totalAmount(new BigDecimal("1200000"))
-            .build();
-        order = org.mockito.Mockito.spy(order);
-        given(order.getId()).willReturn(orderId);
-
-        Payment payment = Payment.builder()
-            .order(order)
-            .amount(new BigDecimal("1200000"))
-            .paymentMethod(PaymentMethod.CARD)
-            .transactionId("TXN_12345678")
-            .build();
-        payment = org.mockito.Mockito.spy(payment);
-        given(payment.getId()).willReturn(1L);
-
-        given(paymentRepository.findByOrderId(orderId)).willReturn(Optional.of(payment));
+        PaymentQuery payment = new PaymentQuery(1L, orderId, new BigDecimal("1200000"), PaymentMethod.CARD,
+            PaymentStatus.COMPLETED, "TXN_12345678", LocalDateTime.now());
+
+        given(paymentRepository.findQueryByOrderId(orderId)).willReturn(Optional.of(payment));
 
         // when
         PaymentQuery result = paymentQueryService.getPaymentByOrderId(orderId);
@@ -63,7 +46,7 @@ class PaymentQueryServiceTest {
         assertThat(result.paymentMethod()).isEqualTo(PaymentMethod.CARD);
         assertThat(result.status()).isEqualTo(PaymentStatus.COMPLETED);
 
-        then(paymentRepository).should().findByOrderId(orderId);
+        then(paymentRepository).should().findQueryByOrderId(orderId);
     }
 
     @Test
@@ -71,44 +54,24 @@ class PaymentQueryServiceTest {
         // given
         Long orderId = 999L;
 
-        given(paymentRepository.findByOrderId(orderId)).willReturn(Optional.empty());
+        given(paymentRepository.findQueryByOrderId(orderId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> paymentQueryService.getPaymentByOrderId(orderId))
-            .isInstanceOf(IllegalArgumentException.class)
+            .isInstanceOf(NotFoundException.class)
             .hasMessage("해당 주문의 결제 정보가 없습니다");
 
-        then(paymentRepository).should().findByOrderId(orderId);
+        then(paymentRepository).should().findQueryByOrderId(orderId);
     }
 
     @Test
     void 결제조회_성공() {
         // given
         Long paymentId = 1L;
-        Member member = Member.builder()
-            .name("홍길동")
-            .email("hong@test.com")
-            .phone("010-1234-5678")
-            .address("서울시 강남구")
-            .build();
-
-        Order order = Order.builder()
-            .member(member)
-            .totalAmount(new BigDecimal("1200000"))
-            .build();
-        order = org.mockito.Mockito.spy(order);
-        given(order.getId()).willReturn(1L);
-
-        Payment payment = Payment.builder()
-            .order(order)
-            .amount(new BigDecimal("1200000"))
-            .paymentMethod(PaymentMethod.CARD)
-            .transactionId("TXN_87654321")
-            .build();
-        payment = org.mockito.Mockito.spy(payment);
-        given(payment.getId()).willReturn(paymentId);
-
-        given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
+        PaymentQuery payment = new PaymentQuery(paymentId, 1L, new BigDecimal("1200000"), PaymentMethod.CARD,
+            PaymentStatus.COMPLETED, "TXN_87654321", LocalDateTime.now());
+
+        given(paymentRepository.findQueryById(paymentId)).willReturn(Optional.of(payment));
 
         // when
         PaymentQuery result = paymentQueryService.getPayment(paymentId);
@@ -118,7 +81,7 @@ class PaymentQueryServiceTest {
         assertThat(result.paymentMethod()).isEqualTo(PaymentMethod.CARD);
         assertThat(result.status()).isEqualTo(PaymentStatus.COMPLETED);
 
-        then(paymentRepository).should().findById(paymentId);
+        then(paymentRepository).should().findQueryById(paymentId);
     }
 
     @Test
@@ -126,13 +89,13 @@ class PaymentQueryServiceTest {
         // given
         Long paymentId = 999L;
 
-        given(paymentRepository.findById(paymentId)).willReturn(Optional.empty());
+        given(paymentRepository.findQueryById(paymentId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> paymentQueryService.getPayment(paymentId))
-            .isInstanceOf(IllegalArgumentException.class)
+            .isInstanceOf(NotFoundException.class)
             .hasMessage("존재하지 않는 결제입니다");
 
-        then(paymentRepository).should().findById(paymentId);
+        then(paymentRepository).should().findQueryById(paymentId);
     }
 }
\ No newline at end of file
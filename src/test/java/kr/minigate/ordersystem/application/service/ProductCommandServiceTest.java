@@ -2,20 +2,33 @@ package kr.minigate.ordersystem.application.service;
 
 import kr.minigate.ordersystem.application.dto.ProductCreateCommand;
 import kr.minigate.ordersystem.application.dto.ProductQuery;
+import kr.minigate.ordersystem.application.dto.ProductStockAdjustCommand;
+import kr.minigate.ordersystem.application.dto.ProductStockRow;
+import kr.minigate.ordersystem.application.dto.ProductUpsertCommand;
+import kr.minigate.ordersystem.application.event.ProductBatchEvent;
+import kr.minigate.ordersystem.application.event.ProductEvent;
 import kr.minigate.ordersystem.domain.Product;
+import kr.minigate.ordersystem.domain.exception.InsufficientStockException;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
+import kr.minigate.ordersystem.domain.repository.ProductBulkRepository.ProductUpdate;
 import kr.minigate.ordersystem.domain.repository.ProductRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.spy;
 
 @ExtendWith(MockitoExtension.class)
 class ProductCommandServiceTest {
@@ -23,6 +36,12 @@ class ProductCommandServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private StockService stockService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProductCommandServiceImpl productCommandService;
 
@@ -52,5 +71,74 @@ class ProductCommandServiceTest {
         assertThat(result.stock()).isEqualTo(10);
 
         then(productRepository).should().save(any(Product.class));
+        then(eventPublisher).should().publishEvent(
+            new ProductBatchEvent(new ProductEvent(ProductEvent.Type.CREATED, result)));
+    }
+
+    @Test
+    void 상품일괄_등록과_수정() {
+        // given
+        Product existing = spy(Product.builder()
+            .name("아이폰 16").description("애플 스마트폰").price(new BigDecimal("1300000")).stock(3).build());
+        given(existing.getId()).willReturn(1L);
+        List<ProductUpsertCommand> commands = List.of(
+            new ProductUpsertCommand(1L, "아이폰 16", "애플 스마트폰", new BigDecimal("1300000"), 3),
+            new ProductUpsertCommand(null, "갤럭시 S24", "삼성 스마트폰", new BigDecimal("1100000"), 5)
+        );
+        given(productRepository.updateProducts(List.of(
+            new ProductUpdate(1L, "아이폰 16", "애플 스마트폰", new BigDecimal("1300000"), 3)))).willReturn(List.of());
+        given(productRepository.findAllById(List.of(1L))).willReturn(List.of(existing));
+
+        // when
+        List<ProductQuery> results = productCommandService.upsertProducts(commands);
+
+        // then
+        assertThat(results).extracting(ProductQuery::name).containsExactly("아이폰 16", "갤럭시 S24");
+        assertThat(results.get(0).stock()).isEqualTo(3);
+        then(productRepository).should().saveAll(argThat((List<Product> products) -> products.size() == 1));
+        then(eventPublisher).should().publishEvent(new ProductBatchEvent(List.of(
+            new ProductEvent(ProductEvent.Type.UPDATED, results.get(0)),
+            new ProductEvent(ProductEvent.Type.CREATED, results.get(1)))));
+        then(eventPublisher).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void 상품일괄_수정_실패_존재하지_않는_상품() {
+        // given
+        given(productRepository.updateProducts(any())).willReturn(List.of(999L));
+
+        // when & then
+        assertThatThrownBy(() -> productCommandService.upsertProducts(List.of(
+            new ProductUpsertCommand(999L, "없는 상품", null, new BigDecimal("1000"), 1))))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessage("상품을 찾을 수 없습니다. ID: [999]");
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 재고일괄증감_같은_상품은_합산() {
+        // given
+        given(stockService.adjustStocks(Map.of(1L, 7, 2L, -2))).willReturn(List.of());
+
+        // when
+        productCommandService.adjustStocks(List.of(
+            new ProductStockAdjustCommand(1L, 10),
+            new ProductStockAdjustCommand(2L, -2),
+            new ProductStockAdjustCommand(1L, -3)));
+
+        // then
+        then(stockService).should().adjustStocks(Map.of(1L, 7, 2L, -2));
+    }
+
+    @Test
+    void 재고일괄증감_실패_재고부족() {
+        // given
+        given(stockService.adjustStocks(Map.of(1L, -20))).willReturn(List.of(1L));
+        given(productRepository.findStockRows(List.of(1L))).willReturn(List.of(new ProductStockRow(1L, 10)));
+
+        // when & then
+        assertThatThrownBy(() -> productCommandService.adjustStocks(List.of(new ProductStockAdjustCommand(1L, -20))))
+            .isInstanceOf(InsufficientStockException.class)
+            .hasMessage("재고가 부족합니다. 상품 ID: [1]");
     }
-}
\ No newline at end of file
+}
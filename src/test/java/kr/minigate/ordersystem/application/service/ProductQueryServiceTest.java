@@ -1,8 +1,12 @@
 package kr.minigate.ordersystem.application.service;
 
+import kr.minigate.ordersystem.application.dto.CursorPage;
 import kr.minigate.ordersystem.application.dto.ProductQuery;
 import kr.minigate.ordersystem.domain.Product;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
 import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import kr.minigate.ordersystem.infrastructure.catalog.ProductCatalog;
+import kr.minigate.ordersystem.infrastructure.search.ProductSearchIndex;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -10,6 +14,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,32 +28,60 @@ class ProductQueryServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductCatalog productCatalog;
+
     @InjectMocks
     private ProductQueryServiceImpl productQueryService;
 
     @Test
     void 모든_상품_조회_성공() {
         // given
-        List<Product> products = List.of(
-            Product.builder().name("아이폰 15").description("애플 스마트폰").price(new BigDecimal("1200000")).stock(10).build(),
-            Product.builder().name("갤럭시 S24").description("삼성 스마트폰").price(new BigDecimal("1100000")).stock(5).build()
+        List<ProductQuery> products = List.of(
+            new ProductQuery(2L, "아이폰 15", "애플 스마트폰", new BigDecimal("1200000"), 10, LocalDateTime.now()),
+            new ProductQuery(1L, "갤럭시 S24", "삼성 스마트폰", new BigDecimal("1100000"), 5, LocalDateTime.now())
         );
 
-        given(productRepository.findAll()).willReturn(products);
+        given(productCatalog.findLatest(CursorPage.DEFAULT_SIZE + 1)).willReturn(products);
 
         // when
-        List<ProductQuery> result = productQueryService.getAllProducts();
+        CursorPage<ProductQuery> result = productQueryService.getAllProducts(null, null);
 
         // then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).name()).isEqualTo("아이폰 15");
-        assertThat(result.get(1).name()).isEqualTo("갤럭시 S24");
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.content().get(0).name()).isEqualTo("아이폰 15");
+        assertThat(result.content().get(1).name()).isEqualTo("갤럭시 S24");
+        assertThat(result.hasNext()).isFalse();
 
-        then(productRepository).should().findAll();
+        then(productRepository).shouldHaveNoInteractions();
     }
 
     @Test
     void 상품_조회_성공() {
+        // given
+        Long productId = 1L;
+        ProductQuery product = new ProductQuery(productId, "아이폰 15", "애플 스마트폰",
+            new BigDecimal("1200000"), 10, LocalDateTime.now());
+
+        given(productCatalog.find(productId)).willReturn(Optional.of(product));
+
+        // when
+        ProductQuery result = productQueryService.getProduct(productId);
+
+        // then
+        assertThat(result.name()).isEqualTo("아이폰 15");
+        assertThat(result.description()).isEqualTo("애플 스마트폰");
+        assertThat(result.price()).isEqualByComparingTo(new BigDecimal("1200000"));
+        assertThat(result.stock()).isEqualTo(10);
+
+        then(productRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 카탈로그에_없는_상품은_DB에서_조회() {
         // given
         Long productId = 1L;
         Product product = Product.builder()
@@ -58,6 +91,7 @@ class ProductQueryServiceTest {
             .stock(10)
             .build();
 
+        given(productCatalog.find(productId)).willReturn(Optional.empty());
         given(productRepository.findById(productId)).willReturn(Optional.of(product));
 
         // when
@@ -65,10 +99,6 @@ class ProductQueryServiceTest {
 
         // then
         assertThat(result.name()).isEqualTo("아이폰 15");
-        assertThat(result.description()).isEqualTo("애플 스마트폰");
-        assertThat(result.price()).isEqualByComparingTo(new BigDecimal("1200000"));
-        assertThat(result.stock()).isEqualTo(10);
-
         then(productRepository).should().findById(productId);
     }
 
@@ -77,13 +107,53 @@ class ProductQueryServiceTest {
         // given
         Long productId = 999L;
 
+        given(productCatalog.find(productId)).willReturn(Optional.empty());
         given(productRepository.findById(productId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> productQueryService.getProduct(productId))
-            .isInstanceOf(IllegalArgumentException.class)
+            .isInstanceOf(NotFoundException.class)
             .hasMessage("존재하지 않는 상품입니다");
 
         then(productRepository).should().findById(productId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void 상품_검색_점수_순서_유지() {
+        // given
+        Product iphone = product(1L, "아이폰 15");
+        Product iphoneCase = product(2L, "아이폰 케이스");
+        given(productSearchIndex.search("아이폰", CursorPage.DEFAULT_SIZE)).willReturn(List.of(2L, 1L, 3L));
+        given(productRepository.findAllById(List.of(2L, 1L, 3L))).willReturn(List.of(iphone, iphoneCase));
+
+        // when
+        List<ProductQuery> result = productQueryService.searchProducts("아이폰", null);
+
+        // then
+        assertThat(result).extracting(ProductQuery::id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 상품_검색_결과_없으면_DB_조회_안함() {
+        // given
+        given(productSearchIndex.search("없는상품", 5)).willReturn(List.of());
+
+        // when
+        List<ProductQuery> result = productQueryService.searchProducts("없는상품", 5);
+
+        // then
+        assertThat(result).isEmpty();
+        then(productRepository).shouldHaveNoInteractions();
+    }
+
+    private Product product(Long id, String name) {
+        Product product = org.mockito.Mockito.spy(Product.builder()
+            .name(name)
+            .description("애플 스마트폰")
+            .price(new BigDecimal("1200000"))
+            .stock(10)
+            .build());
+        given(product.getId()).willReturn(id);
+        return product;
+    }
+}
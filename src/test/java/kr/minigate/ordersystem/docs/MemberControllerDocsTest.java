@@ -3,6 +3,7 @@ package kr.minigate.ordersystem.docs;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.minigate.ordersystem.api.controller.MemberController;
 import kr.minigate.ordersystem.api.request.MemberCreateRequest;
+import kr.minigate.ordersystem.application.dto.CursorPage;
 import kr.minigate.ordersystem.application.dto.MemberCreateCommand;
 import kr.minigate.ordersystem.application.dto.MemberQuery;
 import kr.minigate.ordersystem.application.service.MemberCommandService;
@@ -65,8 +66,8 @@ class MemberControllerDocsTest {
             .thenReturn(mockMemberQuery);
         when(memberQueryService.getMember(any()))
             .thenReturn(mockMemberQuery);
-        when(memberQueryService.getAllMembers())
-            .thenReturn(Arrays.asList(mockMemberQuery));
+        when(memberQueryService.getAllMembers(any(), any()))
+            .thenReturn(new CursorPage<>(Arrays.asList(mockMemberQuery), null));
     }
 
     @Test
@@ -3,11 +3,14 @@ package kr.minigate.ordersystem.docs;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.minigate.ordersystem.api.controller.OrderController;
 import kr.minigate.ordersystem.api.request.OrderCreateRequest;
+import kr.minigate.ordersystem.application.dto.CursorPage;
 import kr.minigate.ordersystem.application.dto.OrderCreateCommand;
 import kr.minigate.ordersystem.application.dto.OrderQuery;
 import kr.minigate.ordersystem.application.service.OrderCommandService;
 import kr.minigate.ordersystem.application.service.OrderQueryService;
 import kr.minigate.ordersystem.domain.OrderStatus;
+import kr.minigate.ordersystem.infrastructure.idempotency.IdempotencyHandler;
+import kr.minigate.ordersystem.infrastructure.sse.OrderStatusBroadcaster;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,6 +29,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -56,8 +60,18 @@ class OrderControllerDocsTest {
     @MockBean
     private OrderQueryService orderQueryService;
 
+    @MockBean
+    private IdempotencyHandler idempotencyHandler;
+
+    @MockBean
+    private OrderStatusBroadcaster orderStatusBroadcaster;
+
     @BeforeEach
     void setUp() {
+        // Idempotency-Key 처리는 위임만 하도록 설정
+        when(idempotencyHandler.execute(any(), any(), any(), any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+
         // 기본 Mock 설정
         OrderQuery mockOrderQuery = new OrderQuery(
             1L, 1L, "홍길동", new BigDecimal("1200000"), OrderStatus.CONFIRMED,
@@ -68,10 +82,10 @@ class OrderControllerDocsTest {
             .thenReturn(mockOrderQuery);
         when(orderQueryService.getOrder(anyLong()))
             .thenReturn(mockOrderQuery);
-        when(orderQueryService.getAllOrders())
-            .thenReturn(Arrays.asList(mockOrderQuery));
-        when(orderQueryService.getOrdersByMemberId(anyLong()))
-            .thenReturn(Arrays.asList(mockOrderQuery));
+        when(orderQueryService.getAllOrders(any(), any()))
+            .thenReturn(new CursorPage<>(Arrays.asList(mockOrderQuery), null));
+        when(orderQueryService.getOrdersByMemberId(anyLong(), any(), any()))
+            .thenReturn(new CursorPage<>(Arrays.asList(mockOrderQuery), null));
     }
 
     @Test
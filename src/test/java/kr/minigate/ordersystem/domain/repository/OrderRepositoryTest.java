@@ -1,13 +1,23 @@
 package kr.minigate.ordersystem.domain.repository;
 
+import kr.minigate.ordersystem.application.dto.OrderItemRow;
+import kr.minigate.ordersystem.application.dto.OrderQuery;
+import kr.minigate.ordersystem.config.JpaConfig;
 import kr.minigate.ordersystem.domain.Member;
 import kr.minigate.ordersystem.domain.Order;
+import kr.minigate.ordersystem.domain.OrderItem;
 import kr.minigate.ordersystem.domain.Product;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
 import java.math.BigDecimal;
@@ -17,6 +27,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@Import(JpaConfig.class)
+@ActiveProfiles("test")
 @TestPropertySource(locations = "classpath:application-test.yml")
 class OrderRepositoryTest {
 
@@ -29,6 +41,9 @@ class OrderRepositoryTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Member testMember;
     private Product testProduct1;
     private Product testProduct2;
@@ -94,27 +109,6 @@ class OrderRepositoryTest {
         assertThat(foundOrder.get().getMember()).isEqualTo(testMember);
     }
 
-    @Test
-    @DisplayName("회원 ID로 주문 목록 조회")
-    void findByMemberIdOrderByCreatedAtDesc_ReturnsOrderList() {
-        // given
-        Order order1 = createOrder();
-        Order order2 = Order.builder()
-                .member(testMember)
-                .totalAmount(new BigDecimal("30000"))
-                .build();
-
-        orderRepository.save(order1);
-        orderRepository.save(order2);
-
-        // when
-        List<Order> orders = orderRepository.findByMemberIdOrderByCreatedAtDesc(testMember.getId());
-
-        // then
-        assertThat(orders).hasSize(2);
-        assertThat(orders).allMatch(order -> order.getMember().getId().equals(testMember.getId()));
-    }
-
     @Test
     @DisplayName("주문 상태 확인")
     void verifyOrderStatus_Success() {
@@ -224,6 +218,106 @@ class OrderRepositoryTest {
         assertThat(savedOrder.getMember()).isEqualTo(testMember);
     }
 
+    @Test
+    @DisplayName("주문 목록 로딩 후 아이템과 상품을 일괄 초기화")
+    void fetchOrderItems_InitializesItemsAndProducts() {
+        // given
+        OrderItem orderItem = OrderItem.builder()
+                .product(testProduct1)
+                .quantity(2)
+                .price(testProduct1.getPrice())
+                .amount(null)
+                .build();
+        orderRepository.save(Order.createOrder(testMember, List.of(orderItem)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Order> orders = orderRepository.findAll();
+        orderRepository.fetchOrderItems(orders.stream().map(Order::getId).toList());
+
+        // then
+        assertThat(orders).hasSize(1);
+        Order order = orders.get(0);
+        assertThat(Hibernate.isInitialized(order.getOrderItems())).isTrue();
+        assertThat(order.getOrderItems()).hasSize(1);
+        assertThat(Hibernate.isInitialized(order.getOrderItems().get(0).getProduct())).isTrue();
+        assertThat(order.getOrderItems().get(0).getProduct().getName()).isEqualTo("상품1");
+    }
+
+    @Test
+    @DisplayName("단건 조회 시 아이템과 상품까지 함께 로딩")
+    void findWithOrderItemsById_LoadsWholeGraph() {
+        // given
+        OrderItem orderItem = OrderItem.builder()
+                .product(testProduct2)
+                .quantity(1)
+                .price(testProduct2.getPrice())
+                .amount(null)
+                .build();
+        Order savedOrder = orderRepository.save(Order.createOrder(testMember, List.of(orderItem)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Optional<Order> foundOrder = orderRepository.findWithOrderItemsById(savedOrder.getId());
+
+        // then
+        assertThat(foundOrder).isPresent();
+        assertThat(Hibernate.isInitialized(foundOrder.get().getMember())).isTrue();
+        assertThat(Hibernate.isInitialized(foundOrder.get().getOrderItems())).isTrue();
+        assertThat(Hibernate.isInitialized(foundOrder.get().getOrderItems().get(0).getProduct())).isTrue();
+    }
+
+    @Test
+    @DisplayName("주문 헤더와 아이템을 프로젝션으로 조회")
+    void findQueries_ProjectsHeadersAndItemRows() {
+        // given
+        OrderItem orderItem = OrderItem.builder()
+                .product(testProduct1)
+                .quantity(3)
+                .price(testProduct1.getPrice())
+                .amount(null)
+                .build();
+        Order savedOrder = orderRepository.save(Order.createOrder(testMember, List.of(orderItem)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<OrderQuery> orders = orderRepository.findLatestQueriesByMemberId(testMember.getId(), Limit.of(10));
+        List<OrderItemRow> rows = orderRepository.findOrderItemRows(List.of(savedOrder.getId()));
+
+        // then
+        assertThat(orders).hasSize(1);
+        assertThat(orders.get(0).id()).isEqualTo(savedOrder.getId());
+        assertThat(orders.get(0).memberName()).isEqualTo(testMember.getName());
+        assertThat(orders.get(0).orderItems()).isEmpty();
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).orderId()).isEqualTo(savedOrder.getId());
+        assertThat(rows.get(0).productName()).isEqualTo("상품1");
+        assertThat(rows.get(0).quantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("주문 저장 시 ID는 시퀀스에서 할당되고 INSERT는 flush 시점에 배치로 전송")
+    void save_OrderWithItems_DefersInsertsUntilFlush() {
+        // given
+        List<OrderItem> orderItems = List.of(
+                OrderItem.builder().product(testProduct1).quantity(1).price(testProduct1.getPrice()).amount(null).build(),
+                OrderItem.builder().product(testProduct2).quantity(2).price(testProduct2.getPrice()).amount(null).build()
+        );
+        entityManager.flush();
+
+        // when
+        Order savedOrder = orderRepository.save(Order.createOrder(testMember, orderItems));
+
+        // then
+        assertThat(savedOrder.getId()).isNotNull();
+        assertThat(savedOrder.getOrderItems()).allSatisfy(item -> assertThat(item.getId()).isNotNull());
+        SessionImplementor session = entityManager.getEntityManager().unwrap(SessionImplementor.class);
+        assertThat(session.getActionQueue().numberOfInsertions()).isEqualTo(3);
+    }
+
     private Order createOrder() {
         return Order.builder()
                 .member(testMember)
@@ -1,11 +1,14 @@
 package kr.minigate.ordersystem.domain.repository;
 
+import kr.minigate.ordersystem.config.JpaConfig;
 import kr.minigate.ordersystem.domain.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
 import java.math.BigDecimal;
@@ -16,6 +19,8 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@Import(JpaConfig.class)
+@ActiveProfiles("test")
 @TestPropertySource(locations = "classpath:application-test.yml")
 class PaymentRepositoryTest {
 
@@ -1,11 +1,15 @@
 package kr.minigate.ordersystem.domain.repository;
 
+import kr.minigate.ordersystem.config.JpaConfig;
 import kr.minigate.ordersystem.domain.Product;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
 import java.math.BigDecimal;
@@ -15,12 +19,17 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@Import(JpaConfig.class)
+@ActiveProfiles("test")
 @TestPropertySource(locations = "classpath:application-test.yml")
 class ProductRepositoryTest {
 
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         productRepository.deleteAll();
@@ -224,6 +233,51 @@ class ProductRepositoryTest {
         assertThat(foundProduct.get().getStock()).isLessThan(30);
     }
 
+    @Test
+    @DisplayName("재고가 충분하면 조건부 차감 성공")
+    void decreaseStock_EnoughStock_ReturnsOne() {
+        // given
+        Product savedProduct = productRepository.saveAndFlush(createProduct("차감 테스트", "설명", new BigDecimal("10000"), 10));
+
+        // when
+        int updated = productRepository.decreaseStock(savedProduct.getId(), 10);
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(productRepository.findById(savedProduct.getId()).get().getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("재고가 부족하면 조건부 차감 실패")
+    void decreaseStock_NotEnoughStock_ReturnsZero() {
+        // given
+        Product savedProduct = productRepository.saveAndFlush(createProduct("차감 테스트", "설명", new BigDecimal("10000"), 3));
+
+        // when
+        int updated = productRepository.decreaseStock(savedProduct.getId(), 4);
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(productRepository.findById(savedProduct.getId()).get().getStock()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재고 원자적 증가")
+    void increaseStock_ReturnsOne() {
+        // given
+        Product savedProduct = productRepository.saveAndFlush(createProduct("증가 테스트", "설명", new BigDecimal("10000"), 3));
+
+        // when
+        int updated = productRepository.increaseStock(savedProduct.getId(), 2);
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(productRepository.findById(savedProduct.getId()).get().getStock()).isEqualTo(5);
+    }
+
     private Product createProduct(String name, String description, BigDecimal price, Integer stock) {
         return Product.builder()
                 .name(name)
@@ -0,0 +1,137 @@
+package kr.minigate.ordersystem.domain.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import kr.minigate.ordersystem.application.dto.MemberUpdateCommand;
+import kr.minigate.ordersystem.application.service.MemberCommandService;
+import kr.minigate.ordersystem.application.service.StockService;
+import kr.minigate.ordersystem.domain.Member;
+import kr.minigate.ordersystem.domain.Product;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.yml")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberCommandService memberCommandService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        member = memberRepository.save(Member.builder()
+            .name("캐시회원")
+            .email("cache-" + System.nanoTime() + "@example.com")
+            .phone("010-1234-5678")
+            .address("서울시 강남구")
+            .build());
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("회원 재조회는 쿼리 없이 2차 캐시에서 읽는다")
+    void findById_HitsSecondLevelCache() {
+        // when
+        memberRepository.findById(member.getId());
+        memberRepository.findById(member.getId());
+
+        // then
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이메일 조회는 자연 키 캐시를 사용한다")
+    void findByEmail_HitsNaturalIdCache() {
+        // when
+        Member found = memberRepository.findByEmail(member.getEmail()).orElseThrow();
+
+        // then
+        assertThat(found.getId()).isEqualTo(member.getId());
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+        assertThat(memberRepository.findByEmail("none@example.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("회원 정보 수정은 커밋 시 캐시에 반영된다")
+    void updateMember_RefreshesCache() {
+        // when
+        memberCommandService.updateMember(member.getId(), new MemberUpdateCommand("새이름", "010-0000-0000", "부산시"));
+
+        // then
+        assertThat(memberRepository.findById(member.getId()).orElseThrow().getName()).isEqualTo("새이름");
+    }
+
+    @Test
+    @DisplayName("재고가 바뀐 상품만 캐시에서 제거된다")
+    void stockChange_EvictsOnlyChangedProduct() {
+        // given
+        Product changed = productRepository.save(product());
+        Product untouched = productRepository.save(product());
+        assertThat(entityManagerFactory.getCache().contains(Product.class, changed.getId())).isTrue();
+
+        // when
+        boolean decreased = stockService.decreaseStock(changed.getId(), 3);
+
+        // then
+        assertThat(decreased).isTrue();
+        assertThat(entityManagerFactory.getCache().contains(Product.class, changed.getId())).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(Product.class, untouched.getId())).isTrue();
+        assertThat(productRepository.findById(changed.getId()).orElseThrow().getStock()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("캐시 적중/미스 메트릭을 노출한다")
+    void exposesCacheMetrics() {
+        // when
+        memberRepository.findById(member.getId());
+
+        // then
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+            .tag("result", "hit")
+            .functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+            .tag("result", "miss")
+            .functionCounter()).isNotNull();
+    }
+
+    private Product product() {
+        return Product.builder()
+            .name("캐시상품")
+            .description("2차 캐시 테스트")
+            .price(new BigDecimal("10000"))
+            .stock(10)
+            .build();
+    }
+}
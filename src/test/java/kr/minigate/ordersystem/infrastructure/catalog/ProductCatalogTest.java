@@ -0,0 +1,152 @@
+package kr.minigate.ordersystem.infrastructure.catalog;
+
+import kr.minigate.ordersystem.application.dto.ProductQuery;
+import kr.minigate.ordersystem.application.dto.ProductStockRow;
+import kr.minigate.ordersystem.application.event.ProductBatchEvent;
+import kr.minigate.ordersystem.application.event.ProductEvent;
+import kr.minigate.ordersystem.application.event.ProductStockChangedEvent;
+import kr.minigate.ordersystem.domain.Product;
+import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductCatalog productCatalog;
+
+    @BeforeEach
+    void setUp() {
+        productCatalog = new ProductCatalog(productRepository);
+    }
+
+    @Test
+    void 처음_조회할_때_한번만_DB에서_적재() {
+        // given
+        List<Product> products = List.of(product(2L, "갤럭시 S24", NOW), product(1L, "아이폰 15", NOW.minusDays(1)));
+        given(productRepository.findLatest(any(Limit.class))).willReturn(products);
+
+        // when
+        List<ProductQuery> first = productCatalog.findLatest(10);
+        Optional<ProductQuery> found = productCatalog.find(1L);
+
+        // then
+        assertThat(first).extracting(ProductQuery::id).containsExactly(2L, 1L);
+        assertThat(found).map(ProductQuery::name).hasValue("아이폰 15");
+        then(productRepository).should(times(1)).findLatest(any(Limit.class));
+    }
+
+    @Test
+    void 커서_다음_상품부터_조회() {
+        // given
+        List<Product> products = List.of(product(3L, "C", NOW), product(2L, "B", NOW), product(1L, "A", NOW.minusDays(1)));
+        given(productRepository.findLatest(any(Limit.class))).willReturn(products);
+
+        // when & then
+        assertThat(productCatalog.findOlderThan(NOW, 3L, 10)).extracting(ProductQuery::id).containsExactly(2L, 1L);
+        assertThat(productCatalog.findOlderThan(NOW, 2L, 1)).extracting(ProductQuery::id).containsExactly(1L);
+        assertThat(productCatalog.findOlderThan(NOW.minusDays(1), 1L, 10)).isEmpty();
+    }
+
+    @Test
+    void 상품_이벤트로_스냅샷_교체() {
+        // given
+        List<Product> products = List.of(product(1L, "아이폰 15", NOW));
+        given(productRepository.findLatest(any(Limit.class))).willReturn(products);
+        List<ProductQuery> before = productCatalog.findLatest(10);
+
+        // when
+        productCatalog.onProductEvent(new ProductBatchEvent(List.of(
+            new ProductEvent(ProductEvent.Type.CREATED,
+                new ProductQuery(2L, "갤럭시 S24", "삼성 스마트폰", new BigDecimal("1100000"), 5, NOW.plusMinutes(1))),
+            new ProductEvent(ProductEvent.Type.UPDATED,
+                new ProductQuery(1L, "아이폰 16", "애플 스마트폰", new BigDecimal("1300000"), 10, NOW)))));
+
+        // then
+        assertThat(productCatalog.findLatest(10)).extracting(ProductQuery::name).containsExactly("갤럭시 S24", "아이폰 16");
+        assertThat(before).extracting(ProductQuery::name).containsExactly("아이폰 15");
+    }
+
+    @Test
+    void 재고_변경은_모아_두었다가_한번에_다시_읽음() {
+        // given
+        List<Product> products = List.of(product(3L, "C", NOW), product(2L, "B", NOW), product(1L, "A", NOW.minusDays(1)));
+        given(productRepository.findLatest(any(Limit.class))).willReturn(products);
+        given(productRepository.findStockRows(List.of(1L, 2L)))
+            .willReturn(List.of(new ProductStockRow(1L, 7), new ProductStockRow(2L, 3)));
+        productCatalog.findLatest(10);
+
+        // when
+        productCatalog.onStockChanged(new ProductStockChangedEvent(2L));
+        productCatalog.onStockChanged(new ProductStockChangedEvent(List.of(1L, 2L)));
+        then(productRepository).should(times(0)).findStockRows(any());
+        productCatalog.refreshStocks();
+
+        // then
+        assertThat(productCatalog.find(1L)).map(ProductQuery::stock).hasValue(7);
+        assertThat(productCatalog.find(2L)).map(ProductQuery::stock).hasValue(3);
+        assertThat(productCatalog.findLatest(10)).extracting(ProductQuery::id).containsExactly(3L, 2L, 1L);
+        then(productRepository).should(times(1)).findStockRows(any());
+    }
+
+    @Test
+    void 적재_전에는_재고를_다시_읽지_않음() {
+        // when
+        productCatalog.onStockChanged(new ProductStockChangedEvent(1L));
+        productCatalog.refreshStocks();
+
+        // then
+        then(productRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 적재_중에_커밋된_재고_변경도_적재_뒤에_반영() {
+        // given - 상품 행을 읽은 직후 재고 변경이 커밋된다
+        List<Product> products = List.of(product(1L, "A", NOW));
+        given(productRepository.findLatest(any(Limit.class))).willAnswer(invocation -> {
+            productCatalog.onStockChanged(new ProductStockChangedEvent(1L));
+            return products;
+        });
+        given(productRepository.findStockRows(List.of(1L))).willReturn(List.of(new ProductStockRow(1L, 4)));
+
+        // when
+        assertThat(productCatalog.find(1L)).map(ProductQuery::stock).hasValue(10);
+        productCatalog.refreshStocks();
+
+        // then
+        assertThat(productCatalog.find(1L)).map(ProductQuery::stock).hasValue(4);
+    }
+
+    private Product product(Long id, String name, LocalDateTime createdAt) {
+        Product product = spy(Product.builder()
+            .name(name)
+            .description("스마트폰")
+            .price(new BigDecimal("1000000"))
+            .stock(10)
+            .build());
+        given(product.getId()).willReturn(id);
+        given(product.getCreatedAt()).willReturn(createdAt);
+        return product;
+    }
+}
@@ -0,0 +1,75 @@
+package kr.minigate.ordersystem.infrastructure.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentResponseCacheTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_사용되지_않은_항목_제거() {
+        // given
+        RecentResponseCache cache = new RecentResponseCache(2, Duration.ofMinutes(10), clock);
+        cache.put("a", "hash-a", "A");
+        cache.put("b", "hash-b", "B");
+        cache.get("a");
+
+        // when
+        cache.put("c", "hash-c", "C");
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c").response()).isEqualTo("C");
+    }
+
+    @Test
+    void TTL이_지난_항목은_조회되지_않음() {
+        // given
+        RecentResponseCache cache = new RecentResponseCache(10, Duration.ofMinutes(10), clock);
+        cache.put("a", "hash-a", "A");
+
+        // when
+        clock.advance(Duration.ofMinutes(10));
+
+        // then
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package kr.minigate.ordersystem.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.minigate.ordersystem.application.dto.MemberQuery;
+import kr.minigate.ordersystem.application.service.MemberQueryService;
+import kr.minigate.ordersystem.application.service.MemberQueryServiceImpl;
+import kr.minigate.ordersystem.domain.exception.NotFoundException;
+import kr.minigate.ordersystem.domain.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceMetricsAspectTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemberQueryService memberQueryService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new MemberQueryServiceImpl(memberRepository));
+        proxyFactory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        memberQueryService = proxyFactory.getProxy();
+    }
+
+    @Test
+    void 성공한_호출은_success_타이머로_기록() {
+        // given
+        given(memberRepository.findQueryById(1L)).willReturn(Optional.of(
+            new MemberQuery(1L, "홍길동", "hong@test.com", "010-1234-5678", "서울시 강남구", LocalDateTime.now())));
+
+        // when
+        memberQueryService.getMember(1L);
+
+        // then
+        assertThat(meterRegistry.get(ServiceMetricsAspect.TIMER_NAME)
+            .tags("service", "MemberQueryServiceImpl", "method", "getMember", "result", "success")
+            .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ServiceMetricsAspect.IN_FLIGHT_GAUGE_NAME)
+            .tag("service", "MemberQueryServiceImpl")
+            .gauge().value()).isZero();
+        assertThat(meterRegistry.find(ServiceMetricsAspect.FAILURE_COUNTER_NAME).counter()).isNull();
+    }
+
+    @Test
+    void 비즈니스_실패는_사유별_카운터와_business_failure_타이머로_기록() {
+        // given
+        given(memberRepository.findQueryById(999L)).willReturn(Optional.empty());
+
+        // when
+        assertThatThrownBy(() -> memberQueryService.getMember(999L))
+            .isInstanceOf(NotFoundException.class);
+
+        // then
+        assertThat(meterRegistry.get(ServiceMetricsAspect.FAILURE_COUNTER_NAME)
+            .tags("service", "MemberQueryServiceImpl", "method", "getMember", "reason", "not_found")
+            .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ServiceMetricsAspect.TIMER_NAME)
+            .tags("result", "business_failure")
+            .timer().count()).isEqualTo(1);
+    }
+}
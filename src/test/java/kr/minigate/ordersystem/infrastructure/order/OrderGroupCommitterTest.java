@@ -0,0 +1,213 @@
+package kr.minigate.ordersystem.infrastructure.order;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.minigate.ordersystem.application.dto.OrderCreateCommand;
+import kr.minigate.ordersystem.application.dto.OrderCreateResult;
+import kr.minigate.ordersystem.application.dto.OrderQuery;
+import kr.minigate.ordersystem.application.service.OrderCommandService;
+import kr.minigate.ordersystem.config.OrderGroupCommitProperties;
+import kr.minigate.ordersystem.domain.OrderStatus;
+import kr.minigate.ordersystem.domain.exception.InsufficientStockException;
+import kr.minigate.ordersystem.domain.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class OrderGroupCommitterTest {
+
+    @Mock
+    private OrderCommandService orderCommandService;
+
+    private OrderGroupCommitter orderGroupCommitter;
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+
+    @BeforeEach
+    void setUp() {
+        // 세 건이 모이면 바로 커밋하고, 그 전에는 충분히 기다린다
+        OrderGroupCommitProperties properties = new OrderGroupCommitProperties(true, Duration.ofSeconds(5), 3, 1, 100);
+        orderGroupCommitter = new OrderGroupCommitter(orderCommandService, properties, Duration.ofSeconds(30),
+            new SimpleMeterRegistry());
+        orderGroupCommitter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        orderGroupCommitter.shutdown();
+    }
+
+    @Test
+    void 동시_주문을_한_트랜잭션으로_커밋() throws Exception {
+        // given
+        given(orderCommandService.createOrders(anyList())).willAnswer(invocation -> {
+            List<OrderCreateCommand> commands = invocation.getArgument(0);
+            return commands.stream().map(command -> OrderCreateResult.created(order(command.memberId()))).toList();
+        });
+
+        // when
+        List<Future<OrderQuery>> results = List.of(submit(1L), submit(2L), submit(3L));
+
+        // then
+        assertThat(results.get(0).get().memberId()).isEqualTo(1L);
+        assertThat(results.get(1).get().memberId()).isEqualTo(2L);
+        assertThat(results.get(2).get().memberId()).isEqualTo(3L);
+        then(orderCommandService).should(times(1)).createOrders(anyList());
+        then(orderCommandService).should(never()).createOrder(any());
+    }
+
+    @Test
+    void 실패한_주문만_예외로_응답() throws Exception {
+        // given
+        given(orderCommandService.createOrders(anyList())).willAnswer(invocation -> {
+            List<OrderCreateCommand> commands = invocation.getArgument(0);
+            return commands.stream()
+                .map(command -> command.memberId() == 2L
+                    ? OrderCreateResult.failed(new InsufficientStockException("재고가 부족합니다. 상품: 아이폰 15"))
+                    : OrderCreateResult.created(order(command.memberId())))
+                .toList();
+        });
+
+        // when
+        List<Future<OrderQuery>> results = List.of(submit(1L), submit(2L), submit(3L));
+
+        // then
+        assertThat(results.get(0).get().memberId()).isEqualTo(1L);
+        assertThatThrownBy(() -> results.get(1).get())
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(InsufficientStockException.class);
+        assertThat(results.get(2).get().memberId()).isEqualTo(3L);
+    }
+
+    @Test
+    void 묶음이_실패하면_주문마다_다시_처리() throws Exception {
+        // given
+        given(orderCommandService.createOrders(anyList())).willThrow(new IllegalStateException("커넥션 오류"));
+        given(orderCommandService.createOrder(any())).willAnswer(invocation ->
+            order(invocation.<OrderCreateCommand>getArgument(0).memberId()));
+
+        // when
+        List<Future<OrderQuery>> results = List.of(submit(1L), submit(2L), submit(3L));
+
+        // then
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).get().memberId()).isEqualTo(i + 1L);
+        }
+        then(orderCommandService).should(times(3)).createOrder(any());
+    }
+
+    @Test
+    void 묶음_처리_중_Error가_나도_기다리는_호출자를_깨우고_계속_처리() throws Exception {
+        // given
+        given(orderCommandService.createOrders(anyList()))
+            .willThrow(new LinkageError("클래스 로딩 실패"))
+            .willAnswer(invocation -> {
+                List<OrderCreateCommand> commands = invocation.getArgument(0);
+                return commands.stream().map(command -> OrderCreateResult.created(order(command.memberId()))).toList();
+            });
+
+        // when
+        List<Future<OrderQuery>> failed = List.of(submit(1L), submit(2L), submit(3L));
+        for (Future<OrderQuery> result : failed) {
+            assertThatThrownBy(result::get).isInstanceOf(ExecutionException.class);
+        }
+        List<Future<OrderQuery>> results = List.of(submit(4L), submit(5L), submit(6L));
+
+        // then
+        assertThat(results.get(0).get().memberId()).isEqualTo(4L);
+        then(orderCommandService).should(times(2)).createOrders(anyList());
+    }
+
+    @Test
+    void 대기_시간을_넘으면_503() throws Exception {
+        // given - 트랜잭션 타임아웃 50ms, 커밋은 끝나지 않는다
+        OrderGroupCommitter slowCommitter = new OrderGroupCommitter(orderCommandService,
+            new OrderGroupCommitProperties(true, Duration.ofMillis(1), 3, 1, 100), Duration.ofMillis(50),
+            new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+        given(orderCommandService.createOrder(any())).willAnswer(invocation -> {
+            release.await();
+            return order(1L);
+        });
+        slowCommitter.start();
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> slowCommitter.createOrder(command(1L)))
+                .isInstanceOf(ServiceUnavailableException.class);
+        } finally {
+            release.countDown();
+            slowCommitter.shutdown();
+        }
+    }
+
+    @Test
+    void 호출자의_트랜잭션_안에서는_묶지_않음() {
+        // given
+        OrderCreateCommand command = command(1L);
+        given(orderCommandService.createOrder(command)).willReturn(order(1L));
+
+        // when
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            OrderQuery result = orderGroupCommitter.createOrder(command);
+
+            // then
+            assertThat(result.memberId()).isEqualTo(1L);
+            then(orderCommandService).should(never()).createOrders(anyList());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    void 종료된_뒤에는_묶지_않고_바로_처리() {
+        // given
+        OrderCreateCommand command = command(1L);
+        given(orderCommandService.createOrder(command)).willReturn(order(1L));
+        orderGroupCommitter.shutdown();
+
+        // when
+        OrderQuery result = orderGroupCommitter.createOrder(command);
+
+        // then
+        assertThat(result.memberId()).isEqualTo(1L);
+        then(orderCommandService).should(never()).createOrders(anyList());
+    }
+
+    private Future<OrderQuery> submit(Long memberId) {
+        return CompletableFuture.supplyAsync(() -> orderGroupCommitter.createOrder(command(memberId)), callers);
+    }
+
+    private OrderCreateCommand command(Long memberId) {
+        return new OrderCreateCommand(memberId, List.of(new OrderCreateCommand.OrderItemCommand(10L, 1)));
+    }
+
+    private OrderQuery order(Long memberId) {
+        return new OrderQuery(memberId * 100, memberId, "회원" + memberId, new BigDecimal("10000"),
+            OrderStatus.CONFIRMED, List.of(), null);
+    }
+}
@@ -0,0 +1,44 @@
+package kr.minigate.ordersystem.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileOutboxPublisherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 배치마다_한_줄에_이벤트_하나씩_덧붙임() throws Exception {
+        // given
+        Path file = tempDir.resolve("outbox/events.ndjson");
+        FileOutboxPublisher publisher = new FileOutboxPublisher(file, objectMapper);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        // when
+        publisher.publish(List.of(
+            new OutboxMessage(1L, "order", 10L, "order.created", "{\"id\":10}", now),
+            new OutboxMessage(2L, "order", 10L, "order.cancelled", "{\"id\":10}", now)));
+        publisher.publish(List.of(
+            new OutboxMessage(3L, "payment", 20L, "payment.completed", "{\"id\":20}", now)));
+
+        // then
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        JsonNode last = objectMapper.readTree(lines.get(2));
+        assertThat(last.get("id").asLong()).isEqualTo(3L);
+        assertThat(last.get("eventType").asText()).isEqualTo("payment.completed");
+        assertThat(last.get("payload").get("id").asLong()).isEqualTo(20L);
+    }
+}
@@ -0,0 +1,137 @@
+package kr.minigate.ordersystem.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.minigate.ordersystem.application.dto.OrderCreateCommand;
+import kr.minigate.ordersystem.application.dto.OrderQuery;
+import kr.minigate.ordersystem.application.dto.PaymentCreateCommand;
+import kr.minigate.ordersystem.application.service.OrderCommandService;
+import kr.minigate.ordersystem.application.service.PaymentCommandService;
+import kr.minigate.ordersystem.config.OutboxProperties;
+import kr.minigate.ordersystem.domain.Member;
+import kr.minigate.ordersystem.domain.PaymentMethod;
+import kr.minigate.ordersystem.domain.Product;
+import kr.minigate.ordersystem.domain.exception.InsufficientStockException;
+import kr.minigate.ordersystem.domain.repository.MemberRepository;
+import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "ordersystem.outbox.relay-enabled=false")
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.yml")
+class OutboxIntegrationTest {
+
+    @Autowired
+    private OrderCommandService orderCommandService;
+
+    @Autowired
+    private PaymentCommandService paymentCommandService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Member member;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+        member = memberRepository.save(Member.builder()
+            .name("테스트회원")
+            .email("outbox-" + System.nanoTime() + "@example.com")
+            .phone("010-1234-5678")
+            .address("서울시 강남구")
+            .build());
+        product = productRepository.save(Product.builder()
+            .name("노트북")
+            .description("아웃박스 테스트")
+            .price(new BigDecimal("10000"))
+            .stock(5)
+            .build());
+    }
+
+    @Test
+    @DisplayName("주문 생성과 결제가 커밋되면 이벤트가 순서대로 아웃박스에 기록된다")
+    void commandsRecordEventsInSameTransaction() throws Exception {
+        // when
+        OrderQuery order = orderCommandService.createOrder(new OrderCreateCommand(member.getId(),
+            List.of(new OrderCreateCommand.OrderItemCommand(product.getId(), 2))));
+        paymentCommandService.processPayment(new PaymentCreateCommand(order.id(), PaymentMethod.CARD));
+
+        // then
+        List<OutboxEvent> events = outboxEventRepository.findUnpublished(Limit.of(10));
+        assertThat(events).extracting(OutboxEvent::getEventType)
+            .containsExactly("order.created", "payment.completed");
+        assertThat(events.get(0).getAggregateId()).isEqualTo(order.id());
+
+        JsonNode payload = objectMapper.readTree(events.get(0).getPayload());
+        assertThat(payload.get("id").asLong()).isEqualTo(order.id());
+        assertThat(payload.get("orderItems")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("명령이 실패해 롤백되면 이벤트도 기록되지 않는다")
+    void rolledBackCommandLeavesNoEvent() {
+        // when
+        assertThatThrownBy(() -> orderCommandService.createOrder(new OrderCreateCommand(member.getId(),
+            List.of(new OrderCreateCommand.OrderItemCommand(product.getId(), 100)))))
+            .isInstanceOf(InsufficientStockException.class);
+
+        // then
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("릴레이는 배치 단위로 id 순서대로 발행하고 발행 완료로 표시한다")
+    void relayPublishesInOrderAndMarksPublished() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            orderCommandService.createOrder(new OrderCreateCommand(member.getId(),
+                List.of(new OrderCreateCommand.OrderItemCommand(product.getId(), 1))));
+        }
+        List<List<OutboxMessage>> batches = new ArrayList<>();
+        OutboxRelay relay = new OutboxRelay(outboxEventRepository, batches::add,
+            new TransactionTemplate(transactionManager),
+            new OutboxProperties(true, 2, Duration.ofDays(7), OutboxProperties.Publisher.IN_PROCESS, null));
+
+        // when
+        int relayed = relay.relay();
+
+        // then
+        assertThat(relayed).isEqualTo(3);
+        assertThat(batches).extracting(List::size).containsExactly(2, 1);
+        List<Long> ids = batches.stream().flatMap(List::stream).map(OutboxMessage::id).toList();
+        assertThat(ids).isSorted();
+        assertThat(outboxEventRepository.findUnpublished(Limit.of(10))).isEmpty();
+        assertThat(relay.relay()).isZero();
+    }
+}
@@ -0,0 +1,198 @@
+package kr.minigate.ordersystem.infrastructure.payment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.minigate.ordersystem.application.dto.PaymentQuery;
+import kr.minigate.ordersystem.application.service.PaymentCommandService;
+import kr.minigate.ordersystem.application.service.PaymentQueryService;
+import kr.minigate.ordersystem.config.PaymentAsyncProperties;
+import kr.minigate.ordersystem.domain.PaymentMethod;
+import kr.minigate.ordersystem.domain.PaymentStatus;
+import kr.minigate.ordersystem.domain.repository.PaymentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentWorkerTest {
+
+    @Mock
+    private PaymentGateway paymentGateway;
+
+    @Mock
+    private PaymentCommandService paymentCommandService;
+
+    @Mock
+    private PaymentQueryService paymentQueryService;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    private PaymentWorker paymentWorker;
+
+    @BeforeEach
+    void setUp() {
+        PaymentAsyncProperties properties = new PaymentAsyncProperties(true, 1, 2, Duration.ofMinutes(1), Duration.ZERO);
+        paymentWorker = new PaymentWorker(paymentGateway, paymentCommandService, paymentQueryService,
+            paymentRepository, properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentWorker.shutdown();
+    }
+
+    @Test
+    void 게이트웨이_승인시_결제_완료() {
+        // given
+        PaymentQuery pending = pendingPayment(1L);
+        given(paymentQueryService.getPayment(1L)).willReturn(pending);
+        given(paymentGateway.approve("payment-1", pending)).willReturn(PaymentGatewayResult.approved("TXN_OK"));
+        given(paymentCommandService.completePayment(1L, "TXN_OK")).willReturn(payment(1L, PaymentStatus.COMPLETED, "TXN_OK"));
+
+        // when
+        paymentWorker.submit(1L);
+
+        // then
+        then(paymentCommandService).should(timeout(1000)).completePayment(1L, "TXN_OK");
+        then(paymentGateway).should(never()).voidOrRefund(any());
+    }
+
+    @Test
+    void 승인_대기_중_취소된_결제의_승인은_되돌림() {
+        // given
+        PaymentQuery pending = pendingPayment(1L);
+        given(paymentQueryService.getPayment(1L)).willReturn(pending);
+        given(paymentGateway.approve("payment-1", pending)).willReturn(PaymentGatewayResult.approved("TXN_LATE"));
+        // 게이트웨이 응답 전에 결제가 취소되어 승인이 반영되지 않는다
+        given(paymentCommandService.completePayment(1L, "TXN_LATE"))
+            .willReturn(payment(1L, PaymentStatus.CANCELLED, null));
+
+        // when
+        paymentWorker.submit(1L);
+
+        // then
+        then(paymentGateway).should(timeout(1000)).voidOrRefund("TXN_LATE");
+    }
+
+    @Test
+    void 게이트웨이_거절시_결제_실패_처리() {
+        // given
+        PaymentQuery pending = pendingPayment(1L);
+        given(paymentQueryService.getPayment(1L)).willReturn(pending);
+        given(paymentGateway.approve("payment-1", pending)).willReturn(PaymentGatewayResult.declined("한도 초과"));
+
+        // when
+        paymentWorker.submit(1L);
+
+        // then
+        then(paymentCommandService).should(timeout(1000)).failPayment(1L);
+    }
+
+    @Test
+    void 대기_상태가_아닌_결제는_게이트웨이를_호출하지_않음() {
+        // given
+        PaymentQuery completed = new PaymentQuery(1L, 1L, new BigDecimal("50000"), PaymentMethod.CARD,
+            PaymentStatus.COMPLETED, "TXN_DONE", LocalDateTime.now());
+        given(paymentQueryService.getPayment(1L)).willReturn(completed);
+
+        // when
+        paymentWorker.submit(1L);
+
+        // then
+        then(paymentQueryService).should(timeout(1000)).getPayment(1L);
+        then(paymentGateway).should(never()).approve(any(), any());
+    }
+
+    @Test
+    void 큐가_가득_차면_작업을_받지_않음() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        given(paymentQueryService.getPayment(any())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return pendingPayment(invocation.getArgument(0));
+        });
+        given(paymentGateway.approve(any(), any())).willReturn(PaymentGatewayResult.approved("TXN_OK"));
+        given(paymentCommandService.completePayment(any(), any()))
+            .willAnswer(invocation -> payment(invocation.getArgument(0), PaymentStatus.COMPLETED, "TXN_OK"));
+
+        // when
+        boolean first = paymentWorker.submit(1L);
+        boolean duplicate = paymentWorker.submit(1L);
+        boolean second = paymentWorker.submit(2L);
+        boolean overflow = paymentWorker.submit(3L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(duplicate).isFalse();
+        assertThat(second).isTrue();
+        assertThat(overflow).isFalse();
+
+        release.countDown();
+        then(paymentCommandService).should(timeout(1000)).completePayment(2L, "TXN_OK");
+        then(paymentCommandService).should(never()).completePayment(3L, "TXN_OK");
+    }
+
+    @Test
+    void 동시에_등록해도_큐_크기를_넘지_않음() throws Exception {
+        // given - 처리가 끝나지 않아 자리가 반환되지 않는다
+        CountDownLatch release = new CountDownLatch(1);
+        given(paymentQueryService.getPayment(any())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return payment(invocation.getArgument(0), PaymentStatus.COMPLETED, "TXN_OK");
+        });
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+
+        // when
+        try (ExecutorService submitters = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long id = 1; id <= 50; id++) {
+                long paymentId = id;
+                submitters.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (paymentWorker.submit(paymentId)) {
+                        accepted.incrementAndGet();
+                    }
+                });
+            }
+            start.countDown();
+        }
+
+        // then
+        assertThat(accepted.get()).isEqualTo(2);
+        then(paymentQueryService).should(timeout(1000)).getPayment(any());
+        release.countDown();
+    }
+
+    private PaymentQuery pendingPayment(Long id) {
+        return payment(id, PaymentStatus.PENDING, null);
+    }
+
+    private PaymentQuery payment(Long id, PaymentStatus status, String transactionId) {
+        return new PaymentQuery(id, 1L, new BigDecimal("50000"), PaymentMethod.CARD,
+            status, transactionId, LocalDateTime.now());
+    }
+}
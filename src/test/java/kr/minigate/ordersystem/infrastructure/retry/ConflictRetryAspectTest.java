@@ -0,0 +1,158 @@
+package kr.minigate.ordersystem.infrastructure.retry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.minigate.ordersystem.application.service.OrderCommandService;
+import kr.minigate.ordersystem.application.service.OrderCommandServiceImpl;
+import kr.minigate.ordersystem.application.service.StockService;
+import kr.minigate.ordersystem.config.ConflictRetryProperties;
+import kr.minigate.ordersystem.domain.Member;
+import kr.minigate.ordersystem.domain.Order;
+import kr.minigate.ordersystem.domain.OrderStatus;
+import kr.minigate.ordersystem.domain.exception.ConflictException;
+import kr.minigate.ordersystem.domain.repository.MemberRepository;
+import kr.minigate.ordersystem.domain.repository.OrderRepository;
+import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import kr.minigate.ordersystem.infrastructure.metrics.ServiceMetricsAspect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ConflictRetryAspectTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StockService stockService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderCommandService orderCommandService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ConflictRetryProperties properties = new ConflictRetryProperties(3, Duration.ofMillis(1), Duration.ofMillis(4), 2.0);
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new OrderCommandServiceImpl(
+            orderRepository, memberRepository, productRepository, stockService, eventPublisher,
+            () -> Optional.of(LocalDateTime.now())));
+        proxyFactory.addAspect(new ConflictRetryAspect(properties, meterRegistry));
+        orderCommandService = proxyFactory.getProxy();
+    }
+
+    @Test
+    void 충돌하면_다시_실행해_성공() {
+        // given
+        given(orderRepository.findWithOrderItemsById(1L))
+            .willThrow(conflict())
+            .willReturn(Optional.of(order()));
+
+        // when
+        orderCommandService.updateOrderStatus(1L, OrderStatus.SHIPPED);
+
+        // then
+        then(orderRepository).should(times(2)).findWithOrderItemsById(1L);
+        assertThat(meterRegistry.get(ConflictRetryAspect.CONFLICT_COUNTER_NAME)
+            .tags("service", "OrderCommandServiceImpl", "method", "updateOrderStatus", "entity", "Order",
+                "result", "retried")
+            .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 재시도_횟수를_넘으면_충돌_예외() {
+        // given
+        given(orderRepository.findWithOrderItemsById(1L)).willThrow(conflict());
+
+        // when & then
+        assertThatThrownBy(() -> orderCommandService.cancelOrder(1L))
+            .isInstanceOf(ConflictException.class);
+        then(orderRepository).should(times(3)).findWithOrderItemsById(1L);
+        assertThat(meterRegistry.get(ConflictRetryAspect.CONFLICT_COUNTER_NAME)
+            .tags("method", "cancelOrder", "result", "exhausted")
+            .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 서비스_메트릭은_재시도_바깥에서_호출_한번으로_기록() {
+        // given - 컨테이너가 @Order로 정하는 순서대로 메트릭이 재시도를 감싼다
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new OrderCommandServiceImpl(
+            orderRepository, memberRepository, productRepository, stockService, eventPublisher,
+            () -> Optional.of(LocalDateTime.now())));
+        proxyFactory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        proxyFactory.addAspect(new ConflictRetryAspect(
+            new ConflictRetryProperties(3, Duration.ofMillis(1), Duration.ofMillis(4), 2.0), meterRegistry));
+        OrderCommandService measured = proxyFactory.getProxy();
+        given(orderRepository.findWithOrderItemsById(1L)).willThrow(conflict());
+
+        // when
+        assertThatThrownBy(() -> measured.cancelOrder(1L)).isInstanceOf(ConflictException.class);
+
+        // then
+        assertThat(OrderUtils.getOrder(ServiceMetricsAspect.class))
+            .isLessThan(OrderUtils.getOrder(ConflictRetryAspect.class));
+        then(orderRepository).should(times(3)).findWithOrderItemsById(1L);
+        assertThat(meterRegistry.get("ordersystem.service")
+            .tags("method", "cancelOrder", "result", "business_failure")
+            .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ordersystem.service.failures")
+            .tags("method", "cancelOrder", "reason", "conflict")
+            .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 호출자의_트랜잭션_안에서는_재시도하지_않음() {
+        // given
+        given(orderRepository.findWithOrderItemsById(1L)).willThrow(conflict());
+
+        // when & then
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> orderCommandService.cancelOrder(1L))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+            then(orderRepository).should(times(1)).findWithOrderItemsById(1L);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    private ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException(Order.class, 1L);
+    }
+
+    private Order order() {
+        Member member = Member.builder()
+            .name("홍길동")
+            .email("hong@test.com")
+            .phone("010-1234-5678")
+            .address("서울시 강남구")
+            .build();
+        return Order.builder().member(member).totalAmount(new BigDecimal("10000")).build();
+    }
+}
@@ -0,0 +1,123 @@
+package kr.minigate.ordersystem.infrastructure.search;
+
+import kr.minigate.ordersystem.application.dto.ProductQuery;
+import kr.minigate.ordersystem.domain.Product;
+import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex(productRepository);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        productSearchIndex.close();
+    }
+
+    @Test
+    void 조사가_붙은_검색어도_형태소_단위로_일치() {
+        // given
+        productSearchIndex.index(product(1L, "무선 이어폰", "노이즈 캔슬링을 지원하는 블루투스 이어폰"));
+        productSearchIndex.index(product(2L, "기계식 키보드", "적축 스위치"));
+
+        // when
+        List<Long> result = productSearchIndex.search("블루투스를", 10);
+
+        // then
+        assertThat(result).containsExactly(1L);
+    }
+
+    @Test
+    void 입력_중인_단어는_접두어로_검색() {
+        // given
+        productSearchIndex.index(product(1L, "갤럭시 S24", "삼성 스마트폰"));
+        productSearchIndex.index(product(2L, "아이폰 15", "애플 스마트폰"));
+
+        // when & then
+        assertThat(productSearchIndex.search("갤럭", 10)).containsExactly(1L);
+        assertThat(productSearchIndex.search("갤럭시 s2", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void 이름_일치가_설명_일치보다_먼저() {
+        // given
+        productSearchIndex.index(product(1L, "보호 필름", "아이폰 전용 강화유리"));
+        productSearchIndex.index(product(2L, "아이폰 케이스", "실리콘 소재"));
+
+        // when
+        List<Long> result = productSearchIndex.search("아이폰", 10);
+
+        // then
+        assertThat(result).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 수정된_상품은_이전_이름으로_검색되지_않음() {
+        // given
+        productSearchIndex.index(product(1L, "아이폰 15", "애플 스마트폰"));
+
+        // when
+        productSearchIndex.index(product(1L, "아이폰 16", "애플 스마트폰"));
+
+        // then
+        assertThat(productSearchIndex.search("16", 10)).containsExactly(1L);
+        assertThat(productSearchIndex.search("15", 10)).isEmpty();
+        assertThat(productSearchIndex.search("아이폰", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void 시작시_DB_상품으로_인덱스_재구성() {
+        // given
+        Product product = org.mockito.Mockito.spy(Product.builder()
+            .name("맥북 프로")
+            .description("애플 노트북")
+            .price(new BigDecimal("2500000"))
+            .stock(3)
+            .build());
+        given(product.getId()).willReturn(5L);
+        given(productRepository.findLatest(any(Limit.class))).willReturn(List.of(product));
+
+        // when
+        productSearchIndex.rebuild();
+
+        // then
+        assertThat(productSearchIndex.search("노트북", 10)).containsExactly(5L);
+    }
+
+    @Test
+    void 빈_검색어는_빈_결과() {
+        // given
+        productSearchIndex.index(product(1L, "아이폰 15", "애플 스마트폰"));
+
+        // when & then
+        assertThat(productSearchIndex.search(" ", 10)).isEmpty();
+        assertThat(productSearchIndex.search(null, 10)).isEmpty();
+    }
+
+    private ProductQuery product(Long id, String name, String description) {
+        return new ProductQuery(id, name, description, new BigDecimal("10000"), 10, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,56 @@
+package kr.minigate.ordersystem.infrastructure.sse;
+
+import kr.minigate.ordersystem.config.OrderStreamProperties.DropPolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedEventBufferTest {
+
+    @Test
+    void DROP_OLDEST_가득_차면_가장_오래된_이벤트를_버림() throws Exception {
+        // given
+        BoundedEventBuffer<Integer> buffer = new BoundedEventBuffer<>(2, DropPolicy.DROP_OLDEST);
+
+        // when
+        boolean accepted = buffer.offer(1) && buffer.offer(2) && buffer.offer(3);
+
+        // then
+        assertThat(accepted).isTrue();
+        assertThat(buffer.take()).isEqualTo(2);
+        assertThat(buffer.take()).isEqualTo(3);
+        assertThat(buffer.drainDroppedCount()).isEqualTo(1);
+        assertThat(buffer.drainDroppedCount()).isZero();
+    }
+
+    @Test
+    void DROP_NEWEST_가득_차면_새_이벤트를_버림() throws Exception {
+        // given
+        BoundedEventBuffer<Integer> buffer = new BoundedEventBuffer<>(2, DropPolicy.DROP_NEWEST);
+
+        // when
+        boolean accepted = buffer.offer(1) && buffer.offer(2) && buffer.offer(3);
+
+        // then
+        assertThat(accepted).isTrue();
+        assertThat(buffer.take()).isEqualTo(1);
+        assertThat(buffer.take()).isEqualTo(2);
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.drainDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void DISCONNECT_가득_차면_false_반환() {
+        // given
+        BoundedEventBuffer<Integer> buffer = new BoundedEventBuffer<>(1, DropPolicy.DISCONNECT);
+        buffer.offer(1);
+
+        // when
+        boolean accepted = buffer.offer(2);
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.drainDroppedCount()).isZero();
+    }
+}
@@ -0,0 +1,107 @@
+package kr.minigate.ordersystem.infrastructure.stock;
+
+import kr.minigate.ordersystem.config.StockLedgerProperties;
+import kr.minigate.ordersystem.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class HotStockLedgerTest {
+
+    private static final Long HOT_PRODUCT_ID = 1L;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private HotStockLedger hotStockLedger;
+
+    @BeforeEach
+    void setUp() {
+        StockLedgerProperties properties = new StockLedgerProperties(
+            true, Set.of(HOT_PRODUCT_ID), 4, Duration.ofSeconds(1));
+        hotStockLedger = new HotStockLedger(productRepository, new TransactionTemplate(transactionManager), properties);
+    }
+
+    @Test
+    void 스트라이프에_나뉜_재고를_합산해_차감() {
+        // given
+        given(productRepository.findStockById(HOT_PRODUCT_ID)).willReturn(Optional.of(10));
+
+        // when & then
+        assertThat(hotStockLedger.tryDecrease(HOT_PRODUCT_ID, 7)).isTrue();
+        assertThat(hotStockLedger.tryDecrease(HOT_PRODUCT_ID, 4)).isFalse();
+        assertThat(hotStockLedger.tryDecrease(HOT_PRODUCT_ID, 3)).isTrue();
+        assertThat(hotStockLedger.tryDecrease(HOT_PRODUCT_ID, 1)).isFalse();
+    }
+
+    @Test
+    void 동시_차감시_재고를_초과하지_않음() throws InterruptedException {
+        // given
+        given(productRepository.findStockById(HOT_PRODUCT_ID)).willReturn(Optional.of(50));
+        AtomicInteger succeeded = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            executor.submit(() -> {
+                if (hotStockLedger.tryDecrease(HOT_PRODUCT_ID, 1)) {
+                    succeeded.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(succeeded.get()).isEqualTo(50);
+    }
+
+    @Test
+    void 순변화량만_DB에_반영() {
+        // given
+        given(productRepository.findStockById(HOT_PRODUCT_ID)).willReturn(Optional.of(10));
+        hotStockLedger.tryDecrease(HOT_PRODUCT_ID, 3);
+        hotStockLedger.increase(HOT_PRODUCT_ID, 1);
+
+        // when
+        hotStockLedger.flush();
+        hotStockLedger.flush();
+
+        // then
+        then(productRepository).should().increaseStock(HOT_PRODUCT_ID, -2);
+    }
+
+    @Test
+    void 존재하지_않는_상품은_차감_실패() {
+        // given
+        given(productRepository.findStockById(HOT_PRODUCT_ID)).willReturn(Optional.empty());
+
+        // when & then
+        assertThat(hotStockLedger.tryDecrease(HOT_PRODUCT_ID, 1)).isFalse();
+        hotStockLedger.flush();
+        then(productRepository).should(never()).increaseStock(anyLong(), anyInt());
+    }
+}